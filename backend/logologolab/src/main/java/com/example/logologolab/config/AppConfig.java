@@ -1,5 +1,6 @@
 package com.example.logologolab.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -15,8 +16,9 @@ public class AppConfig {
         return new RestTemplate();
     }
 
+    // cost factor를 올리면 기존 해시는 다음 로그인 때 새 cost로 재해시됨 (PasswordHashingService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,42 @@
+package com.example.logologolab.config;
+
+import com.example.logologolab.support.TimeSortedIds;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * 시간순 ID 생성기의 노드 ID 설정 (인스턴스마다 달라야 함).
+ * - 호스트명 해시처럼 추정한 값은 인스턴스 간 충돌 가능성이 있어 쓰지 않음
+ * - 미지정이면 local/test 프로필에서만 0으로 기동하고, 그 외에는 기동을 중단
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdGeneratorConfig {
+
+    private static final Profiles LOCAL_PROFILES = Profiles.of("local", "test");
+
+    private final Environment environment;
+
+    @Value("${id.generator.node-id:-1}")
+    private int nodeId;
+
+    @PostConstruct
+    void configure() {
+        if (nodeId >= 0) {
+            TimeSortedIds.configure(nodeId);
+            return;
+        }
+        if (!environment.acceptsProfiles(LOCAL_PROFILES)) {
+            throw new IllegalStateException(
+                    "id.generator.node-id(ID_NODE_ID)가 설정되지 않았습니다. 인스턴스마다 0~" + TimeSortedIds.MAX_NODE_ID + " 중 겹치지 않는 값을 지정하세요.");
+        }
+        log.warn("[ID] node-id 미지정 → local/test 프로필이므로 0 사용 (단일 인스턴스 전용)");
+        TimeSortedIds.configure(0);
+    }
+}
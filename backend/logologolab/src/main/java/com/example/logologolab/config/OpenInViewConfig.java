@@ -0,0 +1,38 @@
+package com.example.logologolab.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * OSIV(Open EntityManager In View)를 직접 등록해 BCrypt를 기다리는 경로만 제외한다.
+ * - 로그인/회원가입은 비밀번호 해시 검증/생성 동안 요청 스레드가 대기하는데,
+ *   OSIV 아래에서는 그동안 앞서 조회에 쓴 JDBC 커넥션이 요청 끝까지 반납되지 않는다
+ * - 이 경로들은 엔티티의 기본 컬럼만 쓰므로 지연 로딩이 필요 없다
+ * 이 빈이 있으면 Spring Boot 기본 OSIV 인터셉터는 등록되지 않는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] EXCLUDED_PATHS = {"/api/login", "/api/signup"};
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        return interceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
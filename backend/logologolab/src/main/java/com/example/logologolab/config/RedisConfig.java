@@ -6,6 +6,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import com.example.logologolab.service.auth.BlacklistBloomFilter;
+import com.example.logologolab.service.search.AssetSearchService;
+import com.example.logologolab.service.tag.TagDictionary;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 @Configuration
@@ -35,4 +40,17 @@ public class RedisConfig {
         return template;
     }
 
+    // 인스턴스 간 로컬 캐시 동기화용 pub/sub 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(BlacklistBloomFilter blacklistBloomFilter,
+                                                                       TagDictionary tagDictionary,
+                                                                       AssetSearchService assetSearchService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(blacklistBloomFilter, new ChannelTopic(BlacklistBloomFilter.CHANNEL));
+        container.addMessageListener(tagDictionary, new ChannelTopic(TagDictionary.CHANNEL));
+        container.addMessageListener(assetSearchService, new ChannelTopic(AssetSearchService.CHANNEL));
+        return container;
+    }
+
 }
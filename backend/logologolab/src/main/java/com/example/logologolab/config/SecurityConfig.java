@@ -46,10 +46,19 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,
                                 "/api/logo", "/api/logo/{id}",
                                 "/api/color-guides", "/api/color-guide/{id}",
-                                "/api/brand-strategies", "/api/brand-strategy/{id}").permitAll()
+                                "/api/brand-strategies", "/api/brand-strategy/{id}",
+                                "/api/logos/feed", "/api/color-guides/feed", "/api/brand-strategies/feed",
+                                "/api/search").permitAll()
+
+                        // 로컬 저장소 직접 업로드 (URL 서명으로 검증)
+                        .requestMatchers(HttpMethod.PUT, "/api/storage/local/**").permitAll()
+                        // 로컬 저장소 이미지 서빙 (storage.type=local)
+                        .requestMatchers(HttpMethod.GET, "/media/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/media/**").permitAll()
 
                         .requestMatchers(
-                                "/api/logo/save", "/api/color-guide/save", "/api/brand-strategy/save",
+                                "/api/logo/save", "/api/logo/commit", "/api/uploads/intent",
+                                "/api/color-guide/save", "/api/brand-strategy/save",
                                 "/api/logo/{id}/tags", "/api/color-guide/{id}/tags", "/api/brand-strategy/{id}/tags",
                                 "/api/my-products", "/api/my-projects", "/api/my-tags", "/api/my-assets",
                                 "/api/project/**" // 프로젝트 관련은 모두 인증 필요
@@ -61,6 +70,10 @@ public class SecurityConfig {
                         // 관리자 경로
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // 운영 지표: health만 공개, 나머지는 관리자
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 나머지는 전부 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,31 @@
+package com.example.logologolab.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 라우팅 힌트. 캐시에 넣을 값처럼 복제 지연으로 오래된 데이터를 읽으면 안 되는 조회를 primary로 고정한다.
+ * 지연 연결(LazyConnectionDataSourceProxy)이라 트랜잭션의 첫 쿼리가 이 범위 안에서 나가야 효과가 있다.
+ * 호출자의 읽기 전용 트랜잭션이 이미 연결을 잡았을 수 있으므로, 범위 안에서는 REQUIRES_NEW 읽기 전용 트랜잭션을 새로 열어 읽는다.
+ * <pre>DataSourceRoute.onPrimary(() -&gt; readOnlyTx.execute(tx -&gt; loader.get()))</pre>
+ */
+public final class DataSourceRoute {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private DataSourceRoute() {}
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) PRIMARY_ONLY.remove();
+            else PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    static boolean isPrimaryOnly() {
+        return Boolean.TRUE.equals(PRIMARY_ONLY.get());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.logologolab.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 짧은 시간 동안 같은 사용자의 읽기를 primary로 보내기 위한 기록.
+ * - 로컬 맵을 먼저 보고, 없으면 Redis 키(다른 인스턴스에서 쓴 경우)를 확인
+ * - Redis 장애 시에는 안전하게 primary로 보낸다
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String PREFIX = "rw:recent:";
+
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate; // null이면 인스턴스 로컬만
+    private final Duration window;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    public void markWrite(String userKey) {
+        expiresAt.put(userKey, System.currentTimeMillis() + window.toMillis());
+        if (redisTemplate == null) return;
+        try {
+            redisTemplate.opsForValue().set(PREFIX + userKey, "1", window);
+        } catch (Exception e) {
+            log.warn("read-your-writes 기록 실패 (로컬만 적용): {}", e.toString());
+        }
+    }
+
+    public boolean recentlyWrote(String userKey) {
+        Long until = expiresAt.get(userKey);
+        if (until != null) {
+            if (until > System.currentTimeMillis()) return true;
+            expiresAt.remove(userKey, until);
+        }
+        if (redisTemplate == null) return false;
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + userKey));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    /** 만료된 로컬 항목 정리 (지연 모니터 주기에 맞춰 호출) */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        expiresAt.entrySet().removeIf(e -> e.getValue() <= now);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.logologolab.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (datasource.replica.enabled=true일 때만, 아니면 기본 단일 DataSource 사용).
+ * - primary는 spring.datasource.*, 복제본은 datasource.replica.urls (쉼표 구분)
+ * - 풀별 지표: hikaricp.connections.* {pool=primary|replica-N}, 라우팅 지표: datasource.route
+ * - 내장 DB 두 개(예: H2 mem)를 primary/replica로 쓰려면 lag-query를 "SELECT 0"으로 지정
+ * - open-in-view로 요청 내내 열린 Session이 첫 트랜잭션의 연결(복제본일 수 있음)을 잡고 있지 않도록
+ *   트랜잭션이 끝날 때마다 연결을 반납 → 다음 트랜잭션은 새로 라우팅됨
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") List<String> urls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.pool-size:10}") int poolSize
+    ) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url == null || url.isBlank()) continue;
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName("replica-" + replicas.size());
+            ds.setJdbcUrl(url.trim());
+            ds.setUsername(username);
+            ds.setPassword(password);
+            if (properties.getDriverClassName() != null) ds.setDriverClassName(properties.getDriverClassName());
+            ds.setMaximumPoolSize(poolSize);
+            ds.setReadOnly(true);
+            ds.setMetricsTrackerFactory(metrics);
+            replicas.put(ds.getPoolName(), ds);
+        }
+        log.info("[DB] 읽기/쓰기 분리 활성화: 복제본 {}개", replicas.size());
+        return new ReplicaPools(primary, replicas);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${datasource.replica.read-your-writes.window:PT5S}") Duration window,
+            @Value("${datasource.replica.read-your-writes.shared:true}") boolean shared
+    ) {
+        return new ReadYourWritesTracker(shared ? redisTemplate : null, window);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaPools pools,
+            ReadYourWritesTracker tracker,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds:2}") double maxLagSeconds
+    ) {
+        return new ReplicaLagMonitor(pools.replicaDataSources(), lagQuery, maxLagSeconds, tracker, meterRegistry);
+    }
+
+    /**
+     * Spring 기본값(DELAYED_ACQUISITION_AND_HOLD)은 Session이 닫힐 때까지 연결을 유지하므로,
+     * 같은 요청에서 읽기 전용 트랜잭션 뒤에 오는 쓰기 트랜잭션이 복제본 연결로 나갈 수 있다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPools pools,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker tracker,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor, tracker, meterRegistry);
+        routing.setTargetDataSources(pools.targets());
+        routing.setDefaultTargetDataSource(pools.primary());
+        routing.afterPropertiesSet();
+        // 실제 연결은 첫 쿼리 때 획득 → 그 시점엔 트랜잭션 readOnly 여부가 정해져 있음
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.logologolab.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제본 지연 감시. 지연이 max-lag-seconds 이하인 복제본만 읽기 대상으로 둔다.
+ * - 기본 질의는 MySQL의 SHOW REPLICA STATUS (Seconds_Behind_Source)
+ * - 해당 컬럼이 없으면 첫 컬럼 값을 지연(초)으로 본다 (내장 DB 테스트에서는 "SELECT 0")
+ * - 결과가 없거나(복제 중이 아님) 조회 실패 시 제외
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final ReadYourWritesTracker tracker;
+    private final Map<String, Double> lastLag = new ConcurrentHashMap<>();
+
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas,
+                             String lagQuery,
+                             double maxLagSeconds,
+                             ReadYourWritesTracker tracker,
+                             MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.tracker = tracker;
+
+        for (String name : replicas.keySet()) {
+            lastLag.put(name, Double.NaN);
+            Gauge.builder("datasource.replica.lag.seconds", lastLag, m -> m.getOrDefault(name, Double.NaN))
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("datasource.replica.healthy", this, m -> m.healthy.size()).register(meterRegistry);
+        check();
+    }
+
+    public List<String> healthyReplicas() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}")
+    public void check() {
+        List<String> next = new ArrayList<>(replicas.size());
+        replicas.forEach((name, ds) -> {
+            double lag = measure(name, ds);
+            lastLag.put(name, lag);
+            if (!Double.isNaN(lag) && lag <= maxLagSeconds) next.add(name);
+        });
+        if (!next.equals(healthy)) {
+            log.info("[DB] 읽기 가능 복제본 변경: {} -> {}", healthy, next);
+        }
+        healthy = List.copyOf(next);
+        tracker.purgeExpired();
+    }
+
+    private double measure(String name, DataSource ds) {
+        try (Connection c = ds.getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(lagQuery)) {
+            if (!rs.next()) return Double.NaN;
+            Object value = lagColumn(rs);
+            return value instanceof Number n ? n.doubleValue() : Double.NaN;
+        } catch (Exception e) {
+            log.debug("복제본 지연 조회 실패: {} {}", name, e.toString());
+            return Double.NaN;
+        }
+    }
+
+    private Object lagColumn(ResultSet rs) throws SQLException {
+        for (String column : new String[]{"Seconds_Behind_Source", "Seconds_Behind_Master"}) {
+            try {
+                return rs.getObject(rs.findColumn(column));
+            } catch (SQLException ignored) {
+                // 다음 후보
+            }
+        }
+        return rs.getObject(1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.logologolab.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** primary + 복제본 커넥션 풀 묶음 (빈 종료 시 함께 닫음) */
+public record ReplicaPools(HikariDataSource primary, Map<String, HikariDataSource> replicas) implements AutoCloseable {
+
+    public Map<Object, Object> targets() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        targets.putAll(replicas);
+        return targets;
+    }
+
+    public Map<String, DataSource> replicaDataSources() {
+        return new LinkedHashMap<>(replicas);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
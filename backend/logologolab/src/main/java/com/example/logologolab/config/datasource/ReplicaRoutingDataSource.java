@@ -0,0 +1,85 @@
+package com.example.logologolab.config.datasource;
+
+import com.example.logologolab.security.CustomUserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 성격에 따라 primary / 복제본을 고른다.
+ * - 읽기 전용 트랜잭션 → 지연이 허용 범위인 복제본 중 라운드로빈
+ * - 쓰기 트랜잭션, 트랜잭션 밖, onPrimary 범위 → primary
+ * - 최근에 쓴 사용자(read-your-writes 창 이내) → primary
+ * 연결은 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점(=readOnly 플래그가 정해진 뒤)에 고른다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker tracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker tracker,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.tracker = tracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(PRIMARY, "no-transaction");
+        }
+
+        String user = currentUserKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null) markAfterCommit(user);
+            return route(PRIMARY, "write");
+        }
+        if (DataSourceRoute.isPrimaryOnly()) {
+            return route(PRIMARY, "primary-only");
+        }
+        if (user != null && tracker.recentlyWrote(user)) {
+            return route(PRIMARY, "read-your-writes");
+        }
+
+        List<String> replicas = lagMonitor.healthyReplicas();
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "no-replica");
+        }
+        return route(replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size())), "read");
+    }
+
+    private String route(String key, String reason) {
+        meterRegistry.counter("datasource.route",
+                "target", PRIMARY.equals(key) ? PRIMARY : "replica",
+                "reason", reason).increment();
+        return key;
+    }
+
+    private void markAfterCommit(String user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(user);
+            }
+        });
+    }
+
+    private static String currentUserKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserPrincipal p)) return null;
+        return p.getUserId() != null ? "u" + p.getUserId() : p.getProvider() + ":" + p.getEmail();
+    }
+}
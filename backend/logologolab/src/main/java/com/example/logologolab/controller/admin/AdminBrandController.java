@@ -188,7 +188,7 @@ public class AdminBrandController {
                                     value = """
                                     {
                                       "content": [
-                                        { "id": 77, "briefKo": "친환경 세제...", "style": "minimal", "markdown": "###브랜드 컨셉\\n키워드: 조용한 럭셔리, 선물용...\\n브랜드 이미지 설명: ...\\n\\n###브랜드 포지셔닝\\n목표 고객: ...\\n차별화 포인트: ...\\n경쟁 우위 요소: ...\\n\\n###마케팅 전략\\nSNS 중심 홍보: ...\\n참여형 이벤트: ...\\n브랜드 스토리텔링: ...\\n굿즈 마케팅: ...\\n\\n###사업 꿀팁\\n마스코트 IP 확장: ...\\n콜라보레이션: ...\\n디지털 브랜딩 강화: ...\\n데이터 기반 개선: ...\", "createdAt": "2025-08-24T11:22:33.123456" }
+                                        { "id": 77, "briefExcerpt": "친환경 세제...", "style": "minimal", "excerpt": "브랜드 컨셉 키워드: 조용한 럭셔리, 선물용... 브랜드 이미지 설명: ...", "createdAt": "2025-08-24T11:22:33.123456" }
                                       ],
                                       "page": 0,
                                       "size": 12,
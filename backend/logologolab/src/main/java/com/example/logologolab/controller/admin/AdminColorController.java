@@ -185,7 +185,7 @@ public class AdminColorController {
                                     value = """
                                             {
                                               "content": [
-                                                { "id": 42, "briefKo": "프리미엄 캔들...", "style": "luxury", "guide": {                                                                                                                 }, "createdAt": "2025-08-24T09:12:34.123456" }
+                                                { "id": 42, "briefExcerpt": "프리미엄 캔들...", "style": "luxury", "guide": {                                                                                                                 }, "createdAt": "2025-08-24T09:12:34.123456" }
                                               ],
                                               "page": 0,
                                               "size": 12,
@@ -0,0 +1,66 @@
+package com.example.logologolab.controller.admin;
+
+import com.example.logologolab.service.s3.OrphanGcJob;
+import com.example.logologolab.service.s3.OrphanGcReport;
+import com.example.logologolab.service.s3.StorageOrphanCollector;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "16. 관리자 스토리지 관리", description = "관리자 전용 스토리지 정리 API")
+public class AdminStorageController {
+
+    private final StorageOrphanCollector storageOrphanCollector;
+
+    @Operation(summary = "[관리자] 마지막 고아 객체 정리 결과 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "204", description = "아직 실행 기록 없음", content = @Content),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 아님", content = @Content)
+    })
+    @GetMapping("/api/admin/storage/orphan-gc")
+    public ResponseEntity<OrphanGcReport> getLastReport() {
+        OrphanGcReport report = storageOrphanCollector.getLastReport();
+        return (report == null) ? ResponseEntity.noContent().build() : ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "[관리자] 고아 객체 정리 작업 상태 조회", description = "가장 최근에 요청한 작업의 진행 상태를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "204", description = "요청된 작업 없음", content = @Content),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 아님", content = @Content)
+    })
+    @GetMapping("/api/admin/storage/orphan-gc/job")
+    public ResponseEntity<OrphanGcJob> getLastJob() {
+        OrphanGcJob job = storageOrphanCollector.getLastJob();
+        return (job == null) ? ResponseEntity.noContent().build() : ResponseEntity.ok(job);
+    }
+
+    @Operation(summary = "[관리자] 고아 객체 정리 실행 요청",
+            description = "백그라운드에서 실행하고 작업 상태를 즉시 반환합니다. dryRun=true면 삭제 예약 없이 발견 수만 집계합니다. "
+                    + "진행 상황은 GET /api/admin/storage/orphan-gc/job 으로 확인합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "실행 예약됨"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중", content = @Content),
+            @ApiResponse(responseCode = "403", description = "관리자 권한이 아님", content = @Content)
+    })
+    @PostMapping("/api/admin/storage/orphan-gc")
+    public ResponseEntity<OrphanGcJob> run(
+            @Parameter(description = "true면 집계만 수행") @RequestParam(defaultValue = "true") boolean dryRun
+    ) {
+        OrphanGcJob job = storageOrphanCollector.submit(dryRun);
+        return (job == null) ? ResponseEntity.status(HttpStatus.CONFLICT).build() : ResponseEntity.accepted().body(job);
+    }
+}
@@ -4,6 +4,7 @@ import com.example.logologolab.dto.admin.user.AdminUserCreateRequest;
 import com.example.logologolab.dto.admin.user.AdminUserResponse;
 import com.example.logologolab.dto.admin.user.AdminUserUpdateRequest;
 import com.example.logologolab.service.admin.AdminService;
+import com.example.logologolab.service.auth.PasswordHashingService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -32,6 +33,7 @@ import java.util.Map;
 public class AdminUserController {
 
     private final AdminService adminService;
+    private final PasswordHashingService passwordHashingService;
 
     @Operation(summary = "[어드민] 신규 회원 생성")
     @ApiResponses({
@@ -41,7 +43,8 @@ public class AdminUserController {
     })
     @PostMapping("/api/admin/user")
     public ResponseEntity<AdminUserResponse> createUser(@Valid @RequestBody AdminUserCreateRequest request) {
-        AdminUserResponse createdUser = adminService.createUser(request);
+        // BCrypt는 트랜잭션(커넥션 점유) 밖에서 수행
+        AdminUserResponse createdUser = adminService.createUser(request, passwordHashingService.hash(request.getPassword()));
         return ResponseEntity.created(URI.create("/api/admin/user/" + createdUser.getId()))
                 .body(createdUser);
     }
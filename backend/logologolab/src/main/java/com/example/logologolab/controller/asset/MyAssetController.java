@@ -1,7 +1,10 @@
 package com.example.logologolab.controller.asset;
 
 import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.domain.AssetType;
 import com.example.logologolab.dto.asset.MyProductsResponse;
+import com.example.logologolab.dto.asset.MyProductsSummary;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.common.PageResponse;
 import com.example.logologolab.dto.tag.TagResponse;
 import com.example.logologolab.service.asset.MyAssetService;
@@ -38,10 +41,12 @@ public class MyAssetController {
 
     private final MyAssetService myAssetService;
 
-    @Operation(summary = "내 모든 산출물 통합 조회", description = "산출물 관리 페이지의 기본 데이터 로딩에 사용됩니다. 로고, 컬러 가이드, 브랜딩 전략을 종류별로 묶어서 반환합니다.")
+    @Operation(summary = "내 산출물 통합 조회 (커서 페이징)", description = "산출물 관리 페이지의 기본 데이터 로딩에 사용됩니다. 로고, 컬러 가이드, 브랜딩 전략을 종류별로 최신순 size건씩 반환합니다. " +
+            "다음 페이지는 응답의 next*Cursor를 같은 종류의 *Cursor 파라미터로 전달합니다. type을 지정하면 해당 종류만 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = MyProductsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 type", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증 실패",
                     content = @Content(mediaType = "application/json", examples = @ExampleObject(value = """
                             {
@@ -60,8 +65,28 @@ public class MyAssetController {
                             """)))
     })
     @GetMapping("/api/my-products")
-    public MyProductsResponse getMyProducts() {
-        return myAssetService.getMyProducts();
+    public MyProductsResponse getMyProducts(
+            @Parameter(description = "조회할 종류 (LOGO, COLOR_GUIDE, BRAND_STRATEGY / 생략 시 전체)") @RequestParam(required = false) AssetType type,
+            @Parameter(description = "종류별 항목 수 (최대 50)") @RequestParam(defaultValue = "12") int size,
+            @Parameter(description = "로고 다음 페이지 커서") @RequestParam(required = false) String logoCursor,
+            @Parameter(description = "컬러 가이드 다음 페이지 커서") @RequestParam(required = false) String colorGuideCursor,
+            @Parameter(description = "브랜딩 전략 다음 페이지 커서") @RequestParam(required = false) String brandStrategyCursor
+    ) {
+        return myAssetService.getMyProducts(type, size, logoCursor, colorGuideCursor, brandStrategyCursor);
+    }
+
+    @Operation(summary = "내 산출물 개수 요약", description = "로고, 컬러 가이드, 브랜딩 전략의 종류별 개수만 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MyProductsSummary.class),
+                            examples = @ExampleObject(value = """
+                                    { "logoCount": 12, "colorGuideCount": 3, "brandStrategyCount": 5 }
+                                    """))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping("/api/my-products/summary")
+    public MyProductsSummary getMyProductsSummary() {
+        return myAssetService.getMyProductsSummary();
     }
 
     /*@Operation(summary = "내 프로젝트 목록 조회", description = "산출물 관리 페이지의 프로젝트 기준 보기에 사용됩니다.")
@@ -82,7 +107,7 @@ public class MyAssetController {
         return myAssetService.listMyProjects();
     }*/
 
-    @Operation(summary = "내가 사용한 태그 목록 조회", description = "산출물 관리 페이지의 태그 기준 보기에 사용됩니다.")
+    @Operation(summary = "내가 사용한 태그 목록 조회", description = "산출물 관리 페이지의 태그 기준 보기에 사용됩니다. 태그별 사용 횟수(usageCount) 내림차순으로 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(
@@ -93,8 +118,8 @@ public class MyAssetController {
                                     value = """
                                     {
                                       "tagList": [
-                                        { "id": 101, "name": "패션" },
-                                        { "id": 102, "name": "SNS" }
+                                        { "id": 101, "name": "패션", "usageCount": 5 },
+                                        { "id": 102, "name": "SNS", "usageCount": 2 }
                                       ]
                                     }
                                     """
@@ -176,4 +201,19 @@ public class MyAssetController {
                 resultPage.isLast()
         );
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "태그별 내 산출물 목록 조회 (커서)", description = "특정 태그가 달린 내 산출물을 최신순 커서 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하며, 전체 개수는 제공하지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "필수 파라미터 누락 또는 잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/api/my-assets/feed")
+    public CursorResponse<AssetListItem> getMyAssetsByTagFeed(
+            @Parameter(description = "조회할 태그 이름", required = true) @RequestParam String tag,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 항목 수 (최대 50)") @RequestParam(defaultValue = "10") int size
+    ) {
+        return myAssetService.listMyAssetsByTag(tag, cursor, size);
+    }
+}
@@ -10,6 +10,7 @@ import com.example.logologolab.dto.auth.SocialLoginRequest;
 import com.example.logologolab.dto.oauth.OAuthUserInfo;
 import com.example.logologolab.security.JwtTokenProvider;
 import com.example.logologolab.service.user.UserService;
+import com.example.logologolab.service.auth.PasswordHashingService;
 import com.example.logologolab.service.auth.RefreshTokenService;
 import com.example.logologolab.service.oauth.OAuth2UserInfoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,7 +24,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
@@ -37,7 +37,7 @@ public class AuthController {
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenExpiration; // ms 단위
@@ -80,14 +80,16 @@ public class AuthController {
     @Operation(summary = "회원가입", description = "일반 로그인 사용자 회원가입")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "회원가입 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
+            @ApiResponse(responseCode = "503", description = "비밀번호 해시 처리 포화", content = @Content)
     })
     @PostMapping("/api/signup")
     public ResponseEntity<String> signUp(@Valid @RequestBody SignUpRequest request) {
         try {
+            // BCrypt는 트랜잭션(커넥션 점유) 밖에서 수행
             userService.registerLocalUser(
                     request.getEmail(),
-                    request.getPassword(),
+                    passwordHashingService.hash(request.getPassword()),
                     request.getNickname()
             );
             return ResponseEntity.status(201).body("회원가입 성공");
@@ -101,24 +103,30 @@ public class AuthController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그인 성공"),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 JWT access token", content = @Content),
-            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content),
+            @ApiResponse(responseCode = "503", description = "비밀번호 검증 처리 포화", content = @Content)
     })
     @PostMapping("/api/login")
     public ResponseEntity<LoginResponse> localLogin(@RequestBody LoginRequest request) {
         // 1. 사용자 조회 (provider: LOCAL)
         User user = userService.findByEmailAndProvider(request.getEmail(), ProviderType.LOCAL);
 
-        // 2. 비밀번호 검증 (BCrypt 사용 가정)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 2. 비밀번호 검증 (BCrypt, 전용 실행기에서 수행 / 포화 시 503)
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             return ResponseEntity.status(401).build();
         }
+        // cost factor 설정이 올라갔으면 평문을 알고 있는 지금 재해시
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userService.updatePassword(user.getId(), passwordHashingService.hash(request.getPassword()));
+        }
 
         // 3. access & refresh token 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getProvider(), user.getRole());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getProvider(), user.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), user.getProvider());
 
         // 4. refresh token Redis 저장
-        refreshTokenService.saveRefreshToken(user.getEmail(), user.getProvider(),refreshToken, refreshTokenExpiration);
+        refreshTokenService.saveRefreshToken(user.getEmail(), user.getProvider(),
+                jwtTokenProvider.getTokenId(refreshToken), refreshToken, refreshTokenExpiration);
 
         // 응답 헤더에 과거 스코프 쿠키들 삭제 먼저 추가
         HttpHeaders headers = new HttpHeaders();
@@ -168,11 +176,12 @@ public class AuthController {
         User user = userService.registerOrLogin(userInfo);
 
         // 2. access & refresh token 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getProvider(), user.getRole());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getProvider(), user.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), user.getProvider());
 
         // 3. refresh token Redis 저장
-        refreshTokenService.saveRefreshToken(user.getEmail(), user.getProvider(), refreshToken, refreshTokenExpiration);
+        refreshTokenService.saveRefreshToken(user.getEmail(), user.getProvider(),
+                jwtTokenProvider.getTokenId(refreshToken), refreshToken, refreshTokenExpiration);
 
         // 응답 헤더에 과거 스코프 쿠키들 삭제 먼저 추가
         HttpHeaders headers = new HttpHeaders();
@@ -85,15 +85,15 @@ public class LogoutController {
             long remainingMillis = expiration.getTime() - now;
 
             if (remainingMillis > 0) {
-                logoutService.blacklistToken(accessToken, remainingMillis);
+                logoutService.blacklistToken(jwtTokenProvider.getTokenId(accessToken), accessToken, remainingMillis);
             }
         }
 
-        // 2. refresh token 삭제
+        // 2. refresh token 삭제 (이 기기 세션만)
         if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
             String email = jwtTokenProvider.getEmail(refreshToken);
             ProviderType provider = ProviderType.valueOf(jwtTokenProvider.getProvider(refreshToken).toUpperCase());
-            refreshTokenService.deleteRefreshToken(email, provider);
+            refreshTokenService.deleteRefreshToken(email, provider, jwtTokenProvider.getTokenId(refreshToken));
         }
 
         // 모든 변형 스코프 삭제를 헤더에 일괄 추가
@@ -94,16 +94,16 @@ public class TokenRefreshController {
         // 2. 이메일 추출 및 저장된 토큰 비교
         String email = jwtTokenProvider.getEmail(refreshToken);
         ProviderType provider = ProviderType.valueOf(jwtTokenProvider.getProvider(refreshToken).toUpperCase());
-        String savedToken = refreshTokenService.getRefreshToken(email, provider);
+        String tokenId = jwtTokenProvider.getTokenId(refreshToken);
 
-        if (savedToken == null || !savedToken.equals(refreshToken)) {
+        if (!refreshTokenService.isValidRefreshToken(email, provider, tokenId, refreshToken)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token 불일치 또는 만료");
         }
 
         // 3. DB에서 provider 가져와서 새 access token 생성
         User user = userService.findByEmailAndProvider(email, provider);
         RoleType role = user.getRole();
-        String newAccessToken = jwtTokenProvider.createAccessToken(email, provider, role);
+        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), email, provider, role);
 
         // 기존 access-token의 옛 스코프들을 모두 삭제 후, 새 access-token만 굽기
         HttpHeaders headers = new HttpHeaders();
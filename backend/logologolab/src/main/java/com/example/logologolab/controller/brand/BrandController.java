@@ -3,6 +3,7 @@ package com.example.logologolab.controller.brand;
 import com.example.logologolab.dto.brand.BrandStrategyRequest;
 import com.example.logologolab.service.gpt.GptPromptService;
 import com.example.logologolab.dto.brand.*;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.common.PageResponse;
 import com.example.logologolab.security.CustomUserPrincipal;
 import com.example.logologolab.service.brand.BrandStrategyService;
@@ -217,7 +218,7 @@ public class BrandController {
                                     value = """
                                     {
                                       "content": [
-                                        { "id": 77, "briefKo": "친환경 세제...", "style": "minimal", "markdown": "###브랜드 컨셉\\n키워드: 조용한 럭셔리, 선물용...\\n브랜드 이미지 설명: ...\\n\\n###브랜드 포지셔닝\\n목표 고객: ...\\n차별화 포인트: ...\\n경쟁 우위 요소: ...\\n\\n###마케팅 전략\\nSNS 중심 홍보: ...\\n참여형 이벤트: ...\\n브랜드 스토리텔링: ...\\n굿즈 마케팅: ...\\n\\n###사업 꿀팁\\n마스코트 IP 확장: ...\\n콜라보레이션: ...\\n디지털 브랜딩 강화: ...\\n데이터 기반 개선: ...\", "createdAt": "2025-08-24T11:22:33.123456" }
+                                        { "id": 77, "briefExcerpt": "친환경 세제...", "style": "minimal", "excerpt": "브랜드 컨셉 키워드: 조용한 럭셔리, 선물용... 브랜드 이미지 설명: ...", "createdAt": "2025-08-24T11:22:33.123456" }
                                       ],
                                       "page": 0,
                                       "size": 12,
@@ -256,6 +257,22 @@ public class BrandController {
         return new PageResponse<>(p.getContent(), p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages(), p.isLast());
     }
 
+    @Operation(
+            summary = "브랜딩 전략 공개 피드 조회",
+            description = "공개 목록을 최신순 커서 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하며, nextCursor가 null이면 마지막 페이지입니다. (전체 개수는 제공하지 않음)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content)
+    })
+    @GetMapping(value = "/api/brand-strategies/feed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CursorResponse<BrandStrategyListItem> feed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 항목 수 (최대 50)") @RequestParam(defaultValue = "12") int size
+    ) {
+        return service.feedPublic(cursor, size);
+    }
+
     @Operation(
             summary = "브랜딩 전략 수정",
             description = "ID로 브랜딩 전략을 찾아 markdown 본문을 수정합니다. 본인의 데이터만 수정 가능합니다.",
@@ -4,6 +4,7 @@ import com.example.logologolab.dto.color.ColorGuideDTO;
 import com.example.logologolab.dto.color.ColorGuideRequest;
 import com.example.logologolab.service.gpt.GptPromptService;
 import com.example.logologolab.dto.color.*;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.common.PageResponse;
 import com.example.logologolab.security.CustomUserPrincipal;
 import com.example.logologolab.service.color.ColorGuideService;
@@ -214,7 +215,7 @@ public class ColorController {
                                     value = """
                                             {
                                               "content": [
-                                                { "id": 42, "briefKo": "프리미엄 캔들...", "style": "luxury", "guide": {                                                                                                                 }, "createdAt": "2025-08-24T09:12:34.123456" }
+                                                { "id": 42, "briefExcerpt": "프리미엄 캔들...", "style": "luxury", "guide": {                                                                                                                 }, "createdAt": "2025-08-24T09:12:34.123456" }
                                               ],
                                               "page": 0,
                                               "size": 12,
@@ -253,6 +254,22 @@ public class ColorController {
         return new PageResponse<>(p.getContent(), p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages(), p.isLast());
     }
 
+    @Operation(
+            summary = "컬러 가이드 공개 피드 조회",
+            description = "공개 목록을 최신순 커서 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하며, nextCursor가 null이면 마지막 페이지입니다. (전체 개수는 제공하지 않음)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content)
+    })
+    @GetMapping(value = "/api/color-guides/feed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CursorResponse<ColorGuideListItem> feed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 항목 수 (최대 50)") @RequestParam(defaultValue = "12") int size
+    ) {
+        return service.feedPublic(cursor, size);
+    }
+
     @Operation(
             summary = "컬러 가이드 수정",
             description = "ID로 컬러 가이드를 찾아 guide 내용을 수정합니다. 본인의 데이터만 수정 가능합니다.",
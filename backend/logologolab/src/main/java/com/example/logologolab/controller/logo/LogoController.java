@@ -1,6 +1,8 @@
 package com.example.logologolab.controller.logo;
 
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.common.PageResponse;
+import com.example.logologolab.dto.logo.LogoCommitRequest;
 import com.example.logologolab.dto.logo.LogoListItem;
 import com.example.logologolab.dto.logo.LogoPromptRequest;
 import com.example.logologolab.dto.logo.LogoResponse;
@@ -131,7 +133,7 @@ public class LogoController {
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<Map<String, String>> downloadAndSave(@RequestBody Map<String, String> request) {
-        User user = loginUserProvider.getLoginUser();
+        User user = loginUserProvider.getLoginUserReference();
 
         String prompt = request.get("prompt");
         String base64 = request.get("base64");
@@ -141,6 +143,42 @@ public class LogoController {
         return ResponseEntity.ok(Map.of("imageUrl", imageUrl));
     }
 
+    @Operation(
+            summary = "직접 업로드한 로고 저장",
+            description = "업로드 인텐트로 저장소에 직접 올린 이미지를 검증(크기, 형식)한 뒤 DB에 저장하고 URL을 반환합니다.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                {
+                  "prompt": "빈티지 스타일의 홍익대 로고, style: vintage, type: icon with text",
+                  "imageKey": "logos/2025/08/11/abc123.png"
+                }
+                """))
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "로고 저장 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = "{ \"imageUrl\": \"https://s3.ap-northeast-2.amazonaws.com/your-bucket/logos/2025/08/11/abc123.png\" }"))
+            ),
+            @ApiResponse(responseCode = "400", description = "업로드된 파일이 없거나 요청과 다름", content = @Content),
+            @ApiResponse(responseCode = "404", description = "업로드 인텐트가 없거나 만료됨", content = @Content)
+    })
+    @PostMapping(
+            value = "/api/logo/commit",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<Map<String, String>> commitUploaded(@Valid @RequestBody LogoCommitRequest req) {
+        User user = loginUserProvider.getLoginUserReference();
+        String imageUrl = logoGenerationService.commitUploadedLogo(user, req.prompt(), req.imageKey());
+        return ResponseEntity.ok(Map.of("imageUrl", imageUrl));
+    }
+
     @Operation(summary = "로고 상세 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = LogoResponse.class))),
@@ -186,6 +224,22 @@ public class LogoController {
                 resultPage.getTotalElements(), resultPage.getTotalPages(), resultPage.isLast());
     }
 
+    @Operation(
+            summary = "로고 공개 피드 조회",
+            description = "공개 목록을 최신순 커서 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하며, nextCursor가 null이면 마지막 페이지입니다. (전체 개수는 제공하지 않음)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content)
+    })
+    @GetMapping(value = "/api/logos/feed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CursorResponse<LogoListItem> feedLogos(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 항목 수 (최대 50)") @RequestParam(defaultValue = "12") int size
+    ) {
+        return logoService.feedPublicLogos(cursor, size);
+    }
+
     @Operation(summary = "로고 삭제", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "24", description = "삭제 성공"),
@@ -0,0 +1,64 @@
+package com.example.logologolab.controller.search;
+
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.domain.Style;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.dto.common.PageResponse;
+import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.search.AssetSearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "09. 검색", description = "산출물 검색 API")
+public class SearchController {
+
+    private final AssetSearchService assetSearchService;
+    private final LoginUserProvider loginUserProvider;
+
+    @Operation(summary = "산출물 검색", description = "로고 프롬프트, 컬러 가이드 설명, 브랜딩 전략 본문과 태그를 대상으로 검색합니다. " +
+            "검색어의 모든 글자 조합(2-gram)을 포함하는 산출물을 최신순으로 반환합니다. mine=true면 내 산출물만 검색합니다(로그인 필요).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 누락 또는 잘못된 파라미터", content = @Content),
+            @ApiResponse(responseCode = "401", description = "mine=true인데 로그인하지 않음", content = @Content),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
+    })
+    @GetMapping("/api/search")
+    public PageResponse<AssetListItem> search(
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "산출물 종류 (LOGO, COLOR_GUIDE, BRAND_STRATEGY)") @RequestParam(required = false) AssetType type,
+            @Parameter(description = "스타일 (로고는 스타일이 없어 지정 시 제외됨)") @RequestParam(required = false) Style style,
+            @Parameter(description = "태그 이름") @RequestParam(required = false) String tag,
+            @Parameter(description = "내 산출물만 검색") @RequestParam(defaultValue = "false") boolean mine,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 당 항목 수 (최대 50)") @RequestParam(defaultValue = "20") int size
+    ) {
+        Long ownerId = mine ? loginUserProvider.getLoginUserReference().getId() : null;
+        Page<AssetListItem> result = assetSearchService.search(q, type, style, tag, ownerId,
+                PageRequest.of(Math.max(page, 0), Math.max(size, 1)));
+
+        return new PageResponse<>(
+                result.getContent(),
+                result.getNumber(),
+                result.getSize(),
+                result.getTotalElements(),
+                result.getTotalPages(),
+                result.isLast()
+        );
+    }
+}
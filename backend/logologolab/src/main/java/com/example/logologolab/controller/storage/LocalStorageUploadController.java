@@ -0,0 +1,54 @@
+package com.example.logologolab.controller.storage;
+
+import com.example.logologolab.service.storage.LocalObjectStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * storage.type=local 일 때 pre-signed PUT URL을 대신하는 업로드 엔드포인트.
+ * 인증 토큰 대신 URL 서명(HMAC)으로 권한을 확인한다.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageUploadController {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Value("${storage.direct-upload.max-bytes:10485760}")
+    private long maxBytes;
+
+    @PutMapping(LocalObjectStorage.UPLOAD_PATH + "{*key}")
+    public ResponseEntity<Void> upload(
+            @PathVariable String key,
+            @RequestParam long size,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = "Content-Type", required = false) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        String mime = (contentType == null) ? null : contentType.split(";")[0].trim();
+
+        if (!localObjectStorage.verifyUpload(objectKey, mime, size, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // 서명한 크기와 다르면 거부 (S3의 서명된 Content-Length와 같은 동작)
+        if (request.getContentLengthLong() != size) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (size > maxBytes || !localObjectStorage.write(objectKey, request.getInputStream(), size)) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
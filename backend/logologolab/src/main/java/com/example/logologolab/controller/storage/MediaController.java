@@ -0,0 +1,196 @@
+package com.example.logologolab.controller.storage;
+
+import com.example.logologolab.service.storage.LocalObjectStorage;
+import com.example.logologolab.service.storage.StorageKeys;
+import com.example.logologolab.service.storage.StoredObject;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * storage.type=local 일 때 /media/** 로 저장된 이미지를 서빙.
+ * - 객체 키는 UUID 기반이라 한 번 쓰면 바뀌지 않음 → 강한 ETag + immutable 캐시
+ * - 단일 Range(bytes=a-b, a-, -n) 지원, 다중 Range는 전체 응답으로 대체
+ * - 작은 파일: 메모리 맵 버퍼에서 바로 쓰기 / 큰 파일: Tomcat sendfile 또는 FileChannel.transferTo
+ * - 앱과 같은 출처에서 서빙하므로 nosniff + CSP sandbox, 래스터 이미지가 아니면 다운로드로만 응답
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class MediaController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String CONTENT_SECURITY_POLICY = "default-src 'none'; sandbox";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @RequestMapping(value = "/media/{*key}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        if (!StorageKeys.isSafeKey(objectKey)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<StoredObject> found = localObjectStorage.stat(objectKey);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        StoredObject object = found.get();
+        long size = object.size();
+        String etag = etag(object);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, object.lastModified().toEpochMilli());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", CONTENT_SECURITY_POLICY);
+        if (!StorageKeys.isAllowedImage(object.contentType())) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // If-Range가 현재 ETag와 다르면 Range 무시하고 전체 전송
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) range = null;
+
+        long start = 0;
+        long end = size - 1;
+        if (range != null) {
+            long[] r = parseRange(range, size);
+            if (r == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (r.length == 2) {
+                start = r[0];
+                end = r[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(object.contentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length <= 0) return;
+
+        // 1) 작은 hot 파일: 매핑된 버퍼에서 바로 복사 (read 시스템콜 없음)
+        MappedByteBuffer buffer = localObjectStorage.mapped(objectKey, object);
+        if (buffer != null) {
+            ByteBuffer slice = buffer.duplicate().position((int) start).limit((int) (end + 1));
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (slice.hasRemaining()) out.write(slice);
+            return;
+        }
+
+        // 2) Tomcat NIO/NIO2 sendfile: 커널에서 소켓으로 바로 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, localObjectStorage.resolve(objectKey).toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // 3) 그 외: FileChannel.transferTo
+        try (FileChannel ch = FileChannel.open(localObjectStorage.resolve(objectKey), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long pos = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long n = ch.transferTo(pos, remaining, out);
+                if (n <= 0) break;
+                pos += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    /* ================= helpers ================= */
+
+    /** 키 + 크기 + 수정시각으로 만든 강한 ETag (같은 키를 덮어쓰면 값이 바뀜) */
+    private String etag(StoredObject object) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(object.key().getBytes(StandardCharsets.UTF_8));
+            md.update((":" + object.size() + ":" + object.lastModified().toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(md.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        if (ifNoneMatch.trim().equals("*")) return true;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.startsWith("W/")) c = c.substring(2);
+            if (c.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * "bytes=a-b" 파싱.
+     * 만족 불가면 null, 해석할 수 없거나 다중 Range면 빈 배열(전체 응답), 아니면 {start, end}
+     */
+    private long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.contains(",")) return new long[0];
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (from.isEmpty()) {                 // bytes=-n (마지막 n바이트)
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0) return null;
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(from);
+                end = to.isEmpty() ? size - 1 : Math.min(Long.parseLong(to), size - 1);
+            }
+            if (start >= size || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.logologolab.controller.upload;
+
+import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.upload.UploadIntentRequest;
+import com.example.logologolab.dto.upload.UploadIntentResponse;
+import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.storage.DirectUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "08. 이미지 업로드", description = "저장소 직접 업로드 관련 API")
+@SecurityRequirement(name = "bearerAuth")
+public class UploadController {
+
+    private final DirectUploadService directUploadService;
+    private final LoginUserProvider loginUserProvider;
+
+    @Operation(
+            summary = "업로드 인텐트 발급",
+            description = """
+                    이미지 바이너리를 저장소에 직접 올릴 수 있는 서명 URL을 발급합니다.
+                    1) 응답의 uploadUrl로 headers를 포함해 바이너리를 PUT
+                    2) 받은 key를 imageKey로 /api/logo/commit, /api/color-guide/save, /api/brand-strategy/save 에 전달
+                    """,
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                            {
+                              "contentType": "image/png",
+                              "size": 183204
+                            }
+                            """))
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "발급 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                            {
+                              "key": "uploads/2025/08/11/abc123.png",
+                              "uploadUrl": "https://logologolab-photo.s3.ap-northeast-2.amazonaws.com/uploads/2025/08/11/abc123.png?X-Amz-...",
+                              "method": "PUT",
+                              "headers": { "Content-Type": "image/png" },
+                              "expiresAt": "2025-08-11T10:10:00Z"
+                            }
+                            """))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 크기 초과", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @PostMapping(value = "/api/uploads/intent", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UploadIntentResponse> createIntent(@Valid @RequestBody UploadIntentRequest req) {
+        User user = loginUserProvider.getLoginUser();
+        return ResponseEntity.ok(directUploadService.createIntent(user, req.contentType(), req.size()));
+    }
+}
@@ -9,9 +9,10 @@ import com.example.logologolab.dto.user.OtherUserResponse;
 import com.example.logologolab.security.CustomUserPrincipal;
 import com.example.logologolab.security.JwtTokenProvider;
 import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.user.ProfileImageCache;
+import com.example.logologolab.service.user.ProfileImageService;
 import com.example.logologolab.service.user.UserService;
 import com.example.logologolab.service.auth.RefreshTokenService;
-import com.example.logologolab.support.ImageDataUriSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,6 +37,8 @@ public class UserController {
     private final LoginUserProvider loginUserProvider;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final ProfileImageCache profileImageCache;
+    private final ProfileImageService profileImageService;
 
     @Operation(summary = "마이페이지", description = "마이페이지 조회")
     @ApiResponses({
@@ -54,9 +57,12 @@ public class UserController {
         String dataUri = null;
 
         if (src != null) {
-            if (src.startsWith("http")) {
-                // 1) URL인 경우: 다운로드 후 변환
-                dataUri = ImageDataUriSupport.toDataUriFromUrl(src);
+            if (profileImageService.isStoredUrl(src)) {
+                // 0) 우리 저장소에 올라간 이미지: URL 그대로 (브라우저가 직접 받고 캐시)
+                dataUri = src;
+            } else if (src.startsWith("http")) {
+                // 1) URL인 경우: 캐시된 data URI (없으면 백그라운드 로딩 예약 후 원본 URL)
+                dataUri = profileImageCache.resolve(src);
             } else if (src.startsWith("data:")) {
                 // 2) 이미 완성된 Base64인 경우: 그대로 사용
                 dataUri = src;
@@ -118,9 +124,9 @@ public class UserController {
 
         // 응답은 마이페이지 포맷으로(요구 스펙과 동일)
         String src = updated.getProfileImageUrl();
-        String dataUri = (src != null && src.startsWith("data:"))
+        String dataUri = (src != null && (src.startsWith("data:") || profileImageService.isStoredUrl(src)))
                 ? src
-                : com.example.logologolab.support.ImageDataUriSupport.toDataUriFromUrl(src);
+                : profileImageCache.resolve(src);
 
         MyPageResponse response = MyPageResponse.from(updated, dataUri);
         return ResponseEntity.ok(response);
@@ -146,10 +152,8 @@ public class UserController {
         // 1. 회원 삭제
         userService.deleteUserByEmailAndProvider(email, provider);
 
-        // 2. refresh token 삭제
-        if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
-            refreshTokenService.deleteRefreshToken(email, provider);
-        }
+        // 2. 모든 기기의 refresh 세션 폐기
+        refreshTokenService.revokeAllSessions(email, provider);
 
         // 3. access-token 및 refresh-token 쿠키 삭제
         ResponseCookie deleteRefreshTokenCookie = ResponseCookie.from("refresh-token", "")
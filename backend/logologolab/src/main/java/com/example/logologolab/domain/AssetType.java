@@ -0,0 +1,6 @@
+package com.example.logologolab.domain;
+
+/** 산출물 종류 (내 산출물 조회 필터 등) */
+public enum AssetType {
+    LOGO, COLOR_GUIDE, BRAND_STRATEGY
+}
@@ -2,6 +2,7 @@ package com.example.logologolab.domain;
 
 import jakarta.persistence.*;
 
+import com.example.logologolab.support.Excerpts;
 import lombok.*;
 
 import java.util.Set;
@@ -14,13 +15,15 @@ import java.util.HashSet;
         name = "brand_strategy",
         indexes = {
                 @Index(name = "idx_brand_strategies_project", columnList = "project_id"),
-                @Index(name = "idx_brand_strategies_creator", columnList = "created_by_id")
+                @Index(name = "idx_brand_strategies_creator", columnList = "created_by_id"),
+                @Index(name = "idx_brand_strategies_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_brand_strategies_creator_created_at_id", columnList = "created_by_id, created_at, id")
         }
 )
 public class BrandStrategy extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Version
@@ -43,6 +46,13 @@ public class BrandStrategy extends BaseTimeEntity {
     @Column(columnDefinition = "text", nullable = false)
     private String markdown;
 
+    // 목록 카드용 요약 (저장/수정 시 계산, 목록 쿼리는 TEXT 컬럼 대신 이것만 읽음)
+    @Column(length = Excerpts.BRIEF_MAX)
+    private String briefExcerpt;
+
+    @Column(length = Excerpts.MARKDOWN_MAX)
+    private String excerpt;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "created_by_id")
     private User createdBy;
@@ -61,6 +71,12 @@ public class BrandStrategy extends BaseTimeEntity {
         this.tags = tags;
     }
 
+    @PrePersist @PreUpdate
+    public void refreshExcerpts() {
+        this.briefExcerpt = Excerpts.of(briefKo, Excerpts.BRIEF_MAX);
+        this.excerpt = Excerpts.ofMarkdown(markdown, Excerpts.MARKDOWN_MAX);
+    }
+
     public void updateMarkdown(String markdown) {
         if (markdown != null && !markdown.isBlank()) {
             this.markdown = markdown;
@@ -2,6 +2,7 @@ package com.example.logologolab.domain;
 
 import jakarta.persistence.*;
 
+import com.example.logologolab.support.Excerpts;
 import lombok.*;
 
 import java.util.Set;
@@ -14,12 +15,14 @@ import java.util.HashSet;
         name = "color_guide",
         indexes = {
                 @Index(name = "idx_color_guides_project", columnList = "project_id"),
-                @Index(name = "idx_color_guides_creator", columnList = "created_by_id")
+                @Index(name = "idx_color_guides_creator", columnList = "created_by_id"),
+                @Index(name = "idx_color_guides_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_color_guides_creator_created_at_id", columnList = "created_by_id, created_at, id")
         }
 )
 public class ColorGuide extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeSortedId
     private Long id;
 
     @Version
@@ -28,6 +31,10 @@ public class ColorGuide extends BaseTimeEntity {
     @Column(columnDefinition = "text", nullable = false)
     private String briefKo;
 
+    // 목록 카드용 요약 (저장/수정 시 계산)
+    @Column(length = Excerpts.BRIEF_MAX)
+    private String briefExcerpt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private Style style;
@@ -78,6 +85,11 @@ public class ColorGuide extends BaseTimeEntity {
         this.tags = tags;
     }
 
+    @PrePersist @PreUpdate
+    public void refreshExcerpts() {
+        this.briefExcerpt = Excerpts.of(briefKo, Excerpts.BRIEF_MAX);
+    }
+
     public void updateGuide(String mainHex, String mainDesc, String subHex, String subDesc, String pointHex, String pointDesc, String backgroundHex, String backgroundDesc) {
         this.mainHex = mainHex;
         this.mainDesc = mainDesc;
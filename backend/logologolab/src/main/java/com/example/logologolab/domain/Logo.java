@@ -14,12 +14,14 @@ import java.util.HashSet;
         name = "logo",
         indexes = {
                 @Index(name = "idx_logo_project", columnList = "project_id"),
-                @Index(name = "idx_logo_creator", columnList = "created_by_id")
+                @Index(name = "idx_logo_creator", columnList = "created_by_id"),
+                @Index(name = "idx_logo_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_logo_creator_created_at_id", columnList = "created_by_id, created_at, id")
         }
 )
 public class Logo extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeSortedId
     private Long id;
 
     @Column(nullable = false, columnDefinition = "text")
@@ -20,7 +20,7 @@ import java.util.Set;
 )
 public class Project extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeSortedId
     private Long id;
 
     @Column(nullable = false, length = 128)
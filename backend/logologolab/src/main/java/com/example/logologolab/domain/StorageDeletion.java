@@ -0,0 +1,83 @@
+package com.example.logologolab.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * S3 객체 삭제 아웃박스.
+ * 엔티티 삭제와 같은 트랜잭션에서 기록되고, 백그라운드 워커가 배치로 S3에서 지운 뒤 row를 제거한다.
+ * - 처리 중: claim_token이 있고 next_attempt_at이 리스 만료 시각 (워커가 죽으면 만료 후 다시 처리 대상)
+ * - 포기: dead_at이 있으면 더 이상 처리 대상이 아님 (수동 확인용으로 row는 남김)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "storage_deletion_outbox",
+        indexes = {
+                @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at")
+        }
+)
+public class StorageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "dead_at")
+    private OffsetDateTime deadAt;
+
+    public static StorageDeletion of(String objectKey) {
+        StorageDeletion d = new StorageDeletion();
+        d.objectKey = objectKey;
+        d.attempts = 0;
+        d.createdAt = OffsetDateTime.now();
+        d.nextAttemptAt = d.createdAt;
+        return d;
+    }
+
+    /** 이 워커가 처리 중으로 표시 (리스가 끝날 때까지 다른 워커는 가져가지 않음) */
+    public void claim(String token, OffsetDateTime leaseUntil) {
+        this.claimToken = token;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public boolean isClaimedBy(String token) {
+        return token.equals(claimToken);
+    }
+
+    public void markFailed(String error, OffsetDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > 1000) ? error.substring(0, 1000) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimToken = null;
+    }
+
+    /** 재시도를 포기하고 처리 대상에서 제외 */
+    public void markDead(OffsetDateTime now) {
+        this.deadAt = now;
+        this.claimToken = null;
+    }
+}
@@ -12,11 +12,14 @@ import java.util.Set; // 추가
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag {
+
+    public static final int NAME_MAX_LENGTH = 255;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
-    @Column(name = "name", unique = true, nullable = false)
+    @Column(name = "name", unique = true, nullable = false, length = NAME_MAX_LENGTH)
     private String name;
 
     public Tag(String name) {
@@ -0,0 +1,20 @@
+package com.example.logologolab.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 애플리케이션에서 시간순 ID를 부여하는 식별자 (IDENTITY 대체).
+ * INSERT 전에 ID가 정해지므로 hibernate.jdbc.batch_size에 의한 insert 배치가 가능하다.
+ */
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeSortedId {
+}
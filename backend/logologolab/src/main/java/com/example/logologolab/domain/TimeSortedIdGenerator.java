@@ -0,0 +1,14 @@
+package com.example.logologolab.domain;
+
+import com.example.logologolab.support.TimeSortedIds;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/** {@link TimeSortedId} 구현: {@link TimeSortedIds#next()} 값을 식별자로 사용 */
+public class TimeSortedIdGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeSortedIds.next();
+    }
+}
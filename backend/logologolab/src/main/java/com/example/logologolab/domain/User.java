@@ -12,7 +12,7 @@ import java.util.ArrayList;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"email", "provider"}))
 public class User {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeSortedId
     private Long id;
 
     @Column(name = "password")
@@ -24,8 +24,12 @@ public class User {
     @Column(name = "nickname")
     private String nickname;
 
-    @Lob
-    @Column(name = "profile_image_url", columnDefinition = "LONGTEXT")
+    /**
+     * 프로필 이미지 URL (저장소 profiles/ 또는 소셜 프로필 URL).
+     * 예전에는 data URI 전체를 LONGTEXT로 저장했음 → ProfileImageMigrationRunner로 변환 후
+     * ALTER TABLE `user` MODIFY profile_image_url VARCHAR(1024) NULL; 로 컬럼을 줄인다. (ddl-auto: update는 타입을 바꾸지 않음)
+     */
+    @Column(name = "profile_image_url", length = 1024)
     private String profileImageUrl;
 
     @Enumerated(EnumType.STRING)
@@ -70,6 +74,7 @@ public class User {
     }
 
     public void updateNickname(String nickname) { this.nickname = nickname; }
+    public void updatePassword(String encodedPassword) { this.password = encodedPassword; }
     public void updateProfileImageUrl(String url) { this.profileImageUrl = url; }
     public void updatePhone(String phone) { this.phone = phone; }
     public void updateNotifications(Boolean emailNoti, Boolean smsNoti, Boolean newsLetter) {
@@ -6,8 +6,15 @@ import com.example.logologolab.dto.logo.LogoListItem;
 
 import java.util.List;
 
+/**
+ * 내 산출물 (종류별 최신순, 종류마다 size건씩).
+ * next*Cursor를 같은 이름의 요청 파라미터로 넘기면 해당 종류의 다음 페이지, null이면 마지막 페이지.
+ */
 public record MyProductsResponse(
         List<LogoListItem> logos,
         List<ColorGuideListItem> colorGuides,
-        List<BrandStrategyListItem> brandStrategies
-) {}
\ No newline at end of file
+        List<BrandStrategyListItem> brandStrategies,
+        String nextLogoCursor,
+        String nextColorGuideCursor,
+        String nextBrandStrategyCursor
+) {}
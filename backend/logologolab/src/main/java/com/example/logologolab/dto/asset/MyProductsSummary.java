@@ -0,0 +1,8 @@
+package com.example.logologolab.dto.asset;
+
+/** 내 산출물 종류별 개수 */
+public record MyProductsSummary(
+        long logoCount,
+        long colorGuideCount,
+        long brandStrategyCount
+) {}
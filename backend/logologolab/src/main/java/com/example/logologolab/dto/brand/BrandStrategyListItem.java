@@ -3,10 +3,14 @@ package com.example.logologolab.dto.brand;
 import com.example.logologolab.domain.Style;
 import java.time.OffsetDateTime;
 
+/**
+ * 목록 카드용. briefExcerpt(최대 200자)/excerpt(최대 300자)는 저장 시 계산된 요약.
+ * 원문 briefKo와 markdown 전문은 상세 조회에서만 내려준다.
+ */
 public record BrandStrategyListItem(
         Long id,
-        String briefKo,
+        String briefExcerpt,
         Style style,
-        String markdown,
+        String excerpt,
         OffsetDateTime createdAt
-) {}
\ No newline at end of file
+) {}
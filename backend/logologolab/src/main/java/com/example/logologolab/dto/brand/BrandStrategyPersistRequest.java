@@ -4,5 +4,6 @@ public record BrandStrategyPersistRequest(
         String briefKo,
         String style,     // optional
         String imageUrl,  // optional (S3 URL)
+        String imageKey,  // optional (직접 업로드 후 커밋할 객체 키, imageUrl보다 우선)
         String markdown   // 생성 API 응답 그대로
 ) {}
@@ -1,10 +1,14 @@
 package com.example.logologolab.dto.color;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public record ColorGuideDTO(
         Role main,
         Role sub,
         Role point,
         Role background
 ) {
+    /** 목록 응답은 hex만 채우므로 description이 null이면 생략 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record Role(String hex, String description) {}
 }
\ No newline at end of file
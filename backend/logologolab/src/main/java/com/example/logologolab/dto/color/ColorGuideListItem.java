@@ -3,10 +3,26 @@ package com.example.logologolab.dto.color;
 import com.example.logologolab.domain.Style;
 import java.time.OffsetDateTime;
 
+/**
+ * 목록 카드용. briefExcerpt(최대 200자)는 저장 시 계산된 요약.
+ * 원문 briefKo와 색상 설명(description)은 상세 조회에서만 내려주며, 목록의 guide에는 hex만 있다.
+ */
 public record ColorGuideListItem(
         Long id,
-        String briefKo,
+        String briefExcerpt,
         Style style,
         ColorGuideDTO guide,
         OffsetDateTime createdAt
-) {}
\ No newline at end of file
+) {
+    // 목록 쿼리 projection용: 색상 설명(TEXT) 없이 hex만
+    public ColorGuideListItem(Long id, String briefExcerpt, Style style,
+                              String mainHex, String subHex, String pointHex, String backgroundHex,
+                              OffsetDateTime createdAt) {
+        this(id, briefExcerpt, style, new ColorGuideDTO(
+                new ColorGuideDTO.Role(mainHex, null),
+                new ColorGuideDTO.Role(subHex, null),
+                new ColorGuideDTO.Role(pointHex, null),
+                new ColorGuideDTO.Role(backgroundHex, null)
+        ), createdAt);
+    }
+}
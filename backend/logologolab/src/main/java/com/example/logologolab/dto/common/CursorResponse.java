@@ -0,0 +1,27 @@
+package com.example.logologolab.dto.common;
+
+import com.example.logologolab.support.FeedCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** 무한 스크롤용 응답. nextCursor가 null이면 마지막 페이지 */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(Slice<T> slice, Function<T, FeedCursor> cursorOf) {
+        return of(slice, Function.identity(), cursorOf);
+    }
+
+    public static <E, T> CursorResponse<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, FeedCursor> cursorOf) {
+        List<E> rows = slice.getContent();
+        String next = (slice.hasNext() && !rows.isEmpty())
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+        return new CursorResponse<>(rows.stream().map(mapper).toList(), slice.getSize(), next, next != null);
+    }
+}
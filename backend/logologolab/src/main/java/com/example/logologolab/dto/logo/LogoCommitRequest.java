@@ -0,0 +1,8 @@
+package com.example.logologolab.dto.logo;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LogoCommitRequest(
+        String prompt,
+        @NotBlank String imageKey // 업로드 인텐트에서 받은 객체 키
+) {}
@@ -35,4 +35,20 @@ public record ProjectResponse(
                 p.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    /** 자산 ID 목록을 이미 알고 있을 때 (목록 조회: 조인 테이블만 읽은 경우) */
+    public static ProjectResponse ofIds(Project p,
+                                        List<Long> logoIds,
+                                        List<Long> brandStrategyIds,
+                                        List<Long> colorGuideIds) {
+        return new ProjectResponse(
+                p.getId(),
+                p.getName(),
+                logoIds == null ? Collections.emptyList() : logoIds,
+                brandStrategyIds == null ? Collections.emptyList() : brandStrategyIds,
+                colorGuideIds == null ? Collections.emptyList() : colorGuideIds,
+                p.getCreatedAt(),
+                p.getUpdatedAt()
+        );
+    }
+}
@@ -3,5 +3,5 @@ package com.example.logologolab.dto.tag;
 import java.util.List;
 
 public record TagListResponse(
-        List<TagResponse> tagList
-) {}
\ No newline at end of file
+        List<TagUsageResponse> tagList
+) {}
@@ -0,0 +1,4 @@
+package com.example.logologolab.dto.tag;
+
+/** 태그 + 내 산출물에서 사용된 횟수 */
+public record TagUsageResponse(Long id, String name, long usageCount) {}
@@ -0,0 +1,10 @@
+package com.example.logologolab.dto.upload;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record UploadIntentRequest(
+        @NotBlank String contentType, // image/png | image/jpeg | image/webp
+        @NotNull @Positive Long size  // 업로드할 파일 바이트 수
+) {}
@@ -0,0 +1,12 @@
+package com.example.logologolab.dto.upload;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record UploadIntentResponse(
+        String key,                  // 커밋 시 imageKey로 전달
+        String uploadUrl,            // 이 URL로 바이너리를 직접 PUT
+        String method,
+        Map<String, String> headers, // PUT 요청에 그대로 실어야 하는 헤더
+        Instant expiresAt
+) {}
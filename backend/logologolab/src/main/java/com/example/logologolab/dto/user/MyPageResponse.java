@@ -7,7 +7,7 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class MyPageResponse {
-    private String profileImage;  // data:[mime];base64,xxxx  (권장: "data:" 접두 포함)
+    private String profileImage;  // 이미지 URL(저장소) 또는 data:[mime];base64,xxxx
     private String nickname;
     private boolean emailNoti;
     private boolean smsNoti;
@@ -13,15 +13,25 @@ public enum ErrorCode {
     INVALID_COURSE_PLACE_CONTENT(HttpStatus.BAD_REQUEST, "내용은 0자 이상 500자 이하로 입력해주세요."),
     INVALID_COURSE_PLACE_PHOTOS(HttpStatus.BAD_REQUEST, "사진 첨부는 최대 5개까지 가능합니다."),
     KEYWORD_REQUIRED(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요."),
+    UNSUPPORTED_IMAGE_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다. (png, jpeg, webp)"),
+    UPLOAD_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "업로드 가능한 파일 크기를 초과했습니다."),
+    UPLOADED_OBJECT_MISMATCH(HttpStatus.BAD_REQUEST, "업로드된 파일이 요청한 크기 또는 형식과 다릅니다."),
+    UPLOADED_OBJECT_NOT_FOUND(HttpStatus.BAD_REQUEST, "업로드된 파일을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_TAG_NAME(HttpStatus.BAD_REQUEST, "태그 이름은 255자 이하로 입력해주세요."),
 
     //404 NOT FOUND
     OWNER_MISMATCH(HttpStatus.FORBIDDEN, "작성자만 수정 또는 삭제할 수 있습니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     UNAUTHENTICATED_USER(HttpStatus.UNAUTHORIZED, "로그인이 필요한 요청입니다."),
+    UPLOAD_INTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드 요청이 없거나 만료되었습니다."),
 
     //500 INTERNAL SERVER ERROR
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다."),
-    FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+    FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+
+    //503 SERVICE UNAVAILABLE
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -2,14 +2,21 @@ package com.example.logologolab.repository.brand;
 
 import com.example.logologolab.domain.BrandStrategy;
 import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.dto.brand.BrandStrategyListItem;
+import com.example.logologolab.repository.feed.ExcerptSource;
+import com.example.logologolab.repository.storage.ReferencedUrl;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -24,7 +31,80 @@ public interface BrandStrategyRepository extends JpaRepository<BrandStrategy, Lo
     @Query("SELECT b FROM Project p JOIN p.brandStrategies b WHERE p.id = :projectId")
     Page<BrandStrategy> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
 
+    // 고아 객체 검사용: 저장소 URL(prefix LIKE)을 id 순으로 페이지씩 읽음
+    @Query("SELECT b.id AS id, b.sourceImage AS url FROM BrandStrategy b WHERE b.id > :afterId AND b.sourceImage LIKE :urlPattern ORDER BY b.id")
+    List<ReferencedUrl> findStorageUrlsAfter(@Param("afterId") Long afterId, @Param("urlPattern") String urlPattern, Pageable pageable);
+
     @Modifying
     @Query(value = "DELETE FROM project_brand_strategy WHERE brand_strategy_id = :id", nativeQuery = true)
     void deleteProjectRelation(@Param("id") Long id);
+
+    // 요약 컬럼 백필용 (요약 컬럼 추가 이전에 저장된 행): 원문 앞부분만 id 순 keyset으로 읽음
+    @Query("SELECT b.id AS id, substring(b.briefKo, 1, " + ExcerptSource.SOURCE_CHARS + ") AS briefKo, " +
+           "substring(b.markdown, 1, " + ExcerptSource.SOURCE_CHARS + ") AS markdown " +
+           "FROM BrandStrategy b WHERE b.id > :afterId AND (b.excerpt IS NULL OR b.briefExcerpt IS NULL) ORDER BY b.id")
+    List<ExcerptSource> findExcerptSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 목록 카드용 DTO projection: 카드에 필요한 컬럼만 SELECT (본문/설명 TEXT 컬럼은 읽지 않음)
+    String LIST_ITEM = "SELECT new com.example.logologolab.dto.brand.BrandStrategyListItem(b.id, b.briefExcerpt, b.style, b.excerpt, b.createdAt) ";
+
+    @Query(value = LIST_ITEM + "FROM BrandStrategy b",
+           countQuery = "SELECT count(b) FROM BrandStrategy b")
+    Page<BrandStrategyListItem> findItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM + "FROM BrandStrategy b WHERE b.createdBy = :user",
+           countQuery = "SELECT count(b) FROM BrandStrategy b WHERE b.createdBy = :user")
+    Page<BrandStrategyListItem> findItemsByCreatedBy(@Param("user") User user, Pageable pageable);
+
+    // 정렬(createdAt)이 BrandStrategy 기준으로 붙도록 BrandStrategy를 FROM 첫 엔티티로 둔다
+    @Query(value = LIST_ITEM + "FROM BrandStrategy b WHERE b.id IN (SELECT x.id FROM Project p JOIN p.brandStrategies x WHERE p.id = :projectId)",
+           countQuery = "SELECT count(x) FROM Project p JOIN p.brandStrategies x WHERE p.id = :projectId")
+    Page<BrandStrategyListItem> findItemsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 공개 피드 keyset 페이지네이션 (COUNT 없이 size+1건만 조회, idx_*_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM BrandStrategy b ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BrandStrategyListItem> findFeedItems(Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM BrandStrategy b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BrandStrategyListItem> findFeedItemsAfter(@Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내 산출물 keyset 페이지네이션 (idx_brand_strategies_creator_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM BrandStrategy b WHERE b.createdBy = :user ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BrandStrategyListItem> findMineFeedItems(@Param("user") User user, Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM BrandStrategy b WHERE b.createdBy = :user " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BrandStrategyListItem> findMineFeedItemsAfter(@Param("user") User user, @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    long countByCreatedBy(User user);
+
+    // 태그별 내 산출물 (종류별로 최신순 상위 N건만 읽어 서비스에서 병합)
+    String ASSET_ITEM = "SELECT new com.example.logologolab.dto.asset.AssetListItem(b.id, 'BRAND_STRATEGY', b.briefExcerpt, CAST(NULL AS String), b.createdAt) ";
+
+    @Query(ASSET_ITEM + "FROM BrandStrategy b JOIN b.tags t WHERE b.createdBy = :user AND t.name = :tag " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<AssetListItem> findTaggedItems(@Param("user") User user, @Param("tag") String tag, Pageable pageable);
+
+    @Query(ASSET_ITEM + "FROM BrandStrategy b JOIN b.tags t WHERE b.createdBy = :user AND t.name = :tag " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<AssetListItem> findTaggedItemsAfter(@Param("user") User user, @Param("tag") String tag,
+                                             @Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("SELECT count(b) FROM BrandStrategy b JOIN b.tags t WHERE b.createdBy = :user AND t.name = :tag")
+    long countTagged(@Param("user") User user, @Param("tag") String tag);
+
+    // 프로젝트 연결용 검증: 요청 ID 중 존재하는(또는 소유한) ID만 (엔티티 로딩 없음)
+    @Query("SELECT a.id FROM BrandStrategy a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM BrandStrategy a WHERE a.id IN :ids AND a.createdBy.id = :userId")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 검색 색인 재구축용 id 순 keyset 페이지 (태그는 batch fetch)
+    List<BrandStrategy> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
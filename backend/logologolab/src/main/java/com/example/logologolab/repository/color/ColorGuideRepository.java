@@ -2,14 +2,20 @@ package com.example.logologolab.repository.color;
 
 import com.example.logologolab.domain.ColorGuide;
 import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.dto.color.ColorGuideListItem;
+import com.example.logologolab.repository.feed.ExcerptSource;
+import com.example.logologolab.repository.storage.ReferencedUrl;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.*;
 
@@ -25,7 +31,80 @@ public interface ColorGuideRepository extends JpaRepository<ColorGuide, Long> {
     @Query("SELECT c FROM Project p JOIN p.colorGuides c WHERE p.id = :projectId")
     Page<ColorGuide> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
 
+    // 고아 객체 검사용: 저장소 URL(prefix LIKE)을 id 순으로 페이지씩 읽음
+    @Query("SELECT c.id AS id, c.sourceImage AS url FROM ColorGuide c WHERE c.id > :afterId AND c.sourceImage LIKE :urlPattern ORDER BY c.id")
+    List<ReferencedUrl> findStorageUrlsAfter(@Param("afterId") Long afterId, @Param("urlPattern") String urlPattern, Pageable pageable);
+
     @Modifying
     @Query(value = "DELETE FROM project_color_guide WHERE color_guide_id = :id", nativeQuery = true)
     void deleteProjectRelation(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // 요약 컬럼 백필용 (요약 컬럼 추가 이전에 저장된 행): 원문 앞부분만 id 순 keyset으로 읽음
+    @Query("SELECT c.id AS id, substring(c.briefKo, 1, " + ExcerptSource.SOURCE_CHARS + ") AS briefKo, " +
+           "CAST(NULL AS String) AS markdown " +
+           "FROM ColorGuide c WHERE c.id > :afterId AND c.briefExcerpt IS NULL ORDER BY c.id")
+    List<ExcerptSource> findExcerptSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 목록 카드용 DTO projection: 카드에 필요한 컬럼만 SELECT (본문/설명 TEXT 컬럼은 읽지 않음)
+    String LIST_ITEM = "SELECT new com.example.logologolab.dto.color.ColorGuideListItem(c.id, c.briefExcerpt, c.style, c.mainHex, c.subHex, c.pointHex, c.backgroundHex, c.createdAt) ";
+
+    @Query(value = LIST_ITEM + "FROM ColorGuide c",
+           countQuery = "SELECT count(c) FROM ColorGuide c")
+    Page<ColorGuideListItem> findItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM + "FROM ColorGuide c WHERE c.createdBy = :user",
+           countQuery = "SELECT count(c) FROM ColorGuide c WHERE c.createdBy = :user")
+    Page<ColorGuideListItem> findItemsByCreatedBy(@Param("user") User user, Pageable pageable);
+
+    // 정렬(createdAt)이 ColorGuide 기준으로 붙도록 ColorGuide를 FROM 첫 엔티티로 둔다
+    @Query(value = LIST_ITEM + "FROM ColorGuide c WHERE c.id IN (SELECT x.id FROM Project p JOIN p.colorGuides x WHERE p.id = :projectId)",
+           countQuery = "SELECT count(x) FROM Project p JOIN p.colorGuides x WHERE p.id = :projectId")
+    Page<ColorGuideListItem> findItemsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 공개 피드 keyset 페이지네이션 (COUNT 없이 size+1건만 조회, idx_*_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM ColorGuide c ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<ColorGuideListItem> findFeedItems(Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM ColorGuide c WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<ColorGuideListItem> findFeedItemsAfter(@Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내 산출물 keyset 페이지네이션 (idx_color_guides_creator_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM ColorGuide c WHERE c.createdBy = :user ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<ColorGuideListItem> findMineFeedItems(@Param("user") User user, Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM ColorGuide c WHERE c.createdBy = :user " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<ColorGuideListItem> findMineFeedItemsAfter(@Param("user") User user, @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    long countByCreatedBy(User user);
+
+    // 태그별 내 산출물 (종류별로 최신순 상위 N건만 읽어 서비스에서 병합)
+    String ASSET_ITEM = "SELECT new com.example.logologolab.dto.asset.AssetListItem(c.id, 'COLOR_GUIDE', c.briefExcerpt, CAST(NULL AS String), c.createdAt) ";
+
+    @Query(ASSET_ITEM + "FROM ColorGuide c JOIN c.tags t WHERE c.createdBy = :user AND t.name = :tag " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<AssetListItem> findTaggedItems(@Param("user") User user, @Param("tag") String tag, Pageable pageable);
+
+    @Query(ASSET_ITEM + "FROM ColorGuide c JOIN c.tags t WHERE c.createdBy = :user AND t.name = :tag " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<AssetListItem> findTaggedItemsAfter(@Param("user") User user, @Param("tag") String tag,
+                                             @Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("SELECT count(c) FROM ColorGuide c JOIN c.tags t WHERE c.createdBy = :user AND t.name = :tag")
+    long countTagged(@Param("user") User user, @Param("tag") String tag);
+
+    // 프로젝트 연결용 검증: 요청 ID 중 존재하는(또는 소유한) ID만 (엔티티 로딩 없음)
+    @Query("SELECT a.id FROM ColorGuide a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM ColorGuide a WHERE a.id IN :ids AND a.createdBy.id = :userId")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 검색 색인 재구축용 id 순 keyset 페이지 (태그는 batch fetch)
+    List<ColorGuide> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
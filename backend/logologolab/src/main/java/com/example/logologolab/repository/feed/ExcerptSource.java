@@ -0,0 +1,14 @@
+package com.example.logologolab.repository.feed;
+
+/**
+ * 목록 요약 백필용 projection: 요약 계산에 필요한 원문 앞부분만 읽는다 (엔티티 로딩 없음).
+ * 요약은 최대 300자라 원문 전체가 필요 없으므로 SOURCE_CHARS 글자까지만 SELECT 한다.
+ */
+public interface ExcerptSource {
+
+    int SOURCE_CHARS = 4000;
+
+    Long getId();
+    String getBriefKo();
+    String getMarkdown();
+}
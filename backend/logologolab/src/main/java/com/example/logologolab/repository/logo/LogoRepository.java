@@ -2,13 +2,19 @@ package com.example.logologolab.repository.logo;
 
 import com.example.logologolab.domain.Logo;
 import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.dto.logo.LogoListItem;
+import com.example.logologolab.repository.storage.ReferencedUrl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +29,74 @@ public interface LogoRepository extends JpaRepository<Logo, Long> {
     @Query("SELECT l FROM Project p JOIN p.logos l WHERE p.id = :projectId")
     Page<Logo> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
 
+    // 고아 객체 검사용: 저장소 URL(prefix LIKE)을 id 순으로 페이지씩 읽어 실행당 한 번만 훑는다
+    @Query("SELECT l.id AS id, l.imageUrl AS url FROM Logo l WHERE l.id > :afterId AND l.imageUrl LIKE :urlPattern ORDER BY l.id")
+    List<ReferencedUrl> findStorageUrlsAfter(@Param("afterId") Long afterId, @Param("urlPattern") String urlPattern, Pageable pageable);
+
     @Modifying
     @Query(value = "DELETE FROM project_logo WHERE logo_id = :id", nativeQuery = true)
     void deleteProjectRelation(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // 목록 카드용 DTO projection: 카드에 필요한 컬럼만 SELECT (본문/설명 TEXT 컬럼은 읽지 않음)
+    String LIST_ITEM = "SELECT new com.example.logologolab.dto.logo.LogoListItem(l.id, l.prompt, l.imageUrl, l.createdAt) ";
+
+    @Query(value = LIST_ITEM + "FROM Logo l",
+           countQuery = "SELECT count(l) FROM Logo l")
+    Page<LogoListItem> findItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM + "FROM Logo l WHERE l.createdBy = :user",
+           countQuery = "SELECT count(l) FROM Logo l WHERE l.createdBy = :user")
+    Page<LogoListItem> findItemsByCreatedBy(@Param("user") User user, Pageable pageable);
+
+    // 정렬(createdAt)이 Logo 기준으로 붙도록 Logo를 FROM 첫 엔티티로 둔다
+    @Query(value = LIST_ITEM + "FROM Logo l WHERE l.id IN (SELECT x.id FROM Project p JOIN p.logos x WHERE p.id = :projectId)",
+           countQuery = "SELECT count(x) FROM Project p JOIN p.logos x WHERE p.id = :projectId")
+    Page<LogoListItem> findItemsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 공개 피드 keyset 페이지네이션 (COUNT 없이 size+1건만 조회, idx_*_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM Logo l ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LogoListItem> findFeedItems(Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM Logo l WHERE l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LogoListItem> findFeedItemsAfter(@Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내 산출물 keyset 페이지네이션 (idx_logo_creator_created_at_id 사용)
+    @Query(LIST_ITEM + "FROM Logo l WHERE l.createdBy = :user ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LogoListItem> findMineFeedItems(@Param("user") User user, Pageable pageable);
+
+    @Query(LIST_ITEM + "FROM Logo l WHERE l.createdBy = :user " +
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LogoListItem> findMineFeedItemsAfter(@Param("user") User user, @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    long countByCreatedBy(User user);
+
+    // 태그별 내 산출물 (종류별로 최신순 상위 N건만 읽어 서비스에서 병합)
+    String ASSET_ITEM = "SELECT new com.example.logologolab.dto.asset.AssetListItem(l.id, 'LOGO', l.prompt, l.imageUrl, l.createdAt) ";
+
+    @Query(ASSET_ITEM + "FROM Logo l JOIN l.tags t WHERE l.createdBy = :user AND t.name = :tag " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<AssetListItem> findTaggedItems(@Param("user") User user, @Param("tag") String tag, Pageable pageable);
+
+    @Query(ASSET_ITEM + "FROM Logo l JOIN l.tags t WHERE l.createdBy = :user AND t.name = :tag " +
+           "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<AssetListItem> findTaggedItemsAfter(@Param("user") User user, @Param("tag") String tag,
+                                             @Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query("SELECT count(l) FROM Logo l JOIN l.tags t WHERE l.createdBy = :user AND t.name = :tag")
+    long countTagged(@Param("user") User user, @Param("tag") String tag);
+
+    // 프로젝트 연결용 검증: 요청 ID 중 존재하는(또는 소유한) ID만 (엔티티 로딩 없음)
+    @Query("SELECT a.id FROM Logo a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM Logo a WHERE a.id IN :ids AND a.createdBy.id = :userId")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 검색 색인 재구축용 id 순 keyset 페이지 (태그는 batch fetch)
+    List<Logo> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.example.logologolab.repository.project;
+
+/** 프로젝트-자산 연결 한 건 (조인 테이블 native query projection) */
+public interface ProjectAssetLink {
+    Long getProjectId();
+    Long getAssetId();
+}
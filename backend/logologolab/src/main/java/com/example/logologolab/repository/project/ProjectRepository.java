@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,22 +29,6 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Page<Project> findByUser(User user, Pageable pageable);
 
-    // 상세 조회용: 자산들을 다 함께 가져옴
-    @Query("SELECT distinct p FROM Project p " +
-            "LEFT JOIN FETCH p.brandStrategies " +
-            "LEFT JOIN FETCH p.colorGuides " +
-            "LEFT JOIN FETCH p.logos " +
-            "WHERE p.id = :id AND p.user = :user")
-    Optional<Project> findWithAssets(@Param("id") Long id, @Param("user") User user);
-
-    // 관리자용: 소유자(User) 조건 없이 ID로만 조회 + Fetch Join
-    @Query("SELECT distinct p FROM Project p " +
-            "LEFT JOIN FETCH p.brandStrategies " +
-            "LEFT JOIN FETCH p.colorGuides " +
-            "LEFT JOIN FETCH p.logos " +
-            "WHERE p.id = :id")
-    Optional<Project> findByIdWithAssets(@Param("id") Long id);
-
     // 특정 브랜딩 전략을 포함하고 있는 프로젝트들 찾기
     @Query("SELECT p FROM Project p JOIN p.brandStrategies b WHERE b.id = :id")
     List<Project> findAllByBrandStrategyId(@Param("id") Long brandStrategyId);
@@ -55,4 +40,17 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // 로고용
     @Query("SELECT p FROM Project p JOIN p.logos l WHERE l.id = :id")
     List<Project> findAllByLogoId(@Param("id") Long logoId);
+
+    // 목록 조회용: 조인 테이블만 읽어 (project_id, asset_id) 쌍 반환 (PK 인덱스만 사용, 자산 row 미접근)
+    @Query(value = "SELECT project_id AS projectId, logo_id AS assetId FROM project_logo " +
+            "WHERE project_id IN (:projectIds) ORDER BY project_id, logo_id", nativeQuery = true)
+    List<ProjectAssetLink> findLogoLinks(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query(value = "SELECT project_id AS projectId, color_guide_id AS assetId FROM project_color_guide " +
+            "WHERE project_id IN (:projectIds) ORDER BY project_id, color_guide_id", nativeQuery = true)
+    List<ProjectAssetLink> findColorGuideLinks(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query(value = "SELECT project_id AS projectId, brand_strategy_id AS assetId FROM project_brand_strategy " +
+            "WHERE project_id IN (:projectIds) ORDER BY project_id, brand_strategy_id", nativeQuery = true)
+    List<ProjectAssetLink> findBrandStrategyLinks(@Param("projectIds") Collection<Long> projectIds);
 }
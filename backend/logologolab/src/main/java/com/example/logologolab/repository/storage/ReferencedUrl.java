@@ -0,0 +1,9 @@
+package com.example.logologolab.repository.storage;
+
+/**
+ * 고아 객체 검사용 projection: 자산 ID와 저장소 URL만 읽는다 (id 기준 keyset 페이징).
+ */
+public interface ReferencedUrl {
+    Long getId();
+    String getUrl();
+}
@@ -0,0 +1,28 @@
+package com.example.logologolab.repository.storage;
+
+import com.example.logologolab.domain.StorageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    // 여러 인스턴스의 워커가 같은 row를 잡지 않도록 SKIP LOCKED (MySQL 8+)
+    // 처리 중인 row는 next_attempt_at이 리스 만료 시각이므로 만료 전에는 잡히지 않음, 포기한 row(dead_at) 제외
+    @Query(value = """
+            SELECT * FROM storage_deletion_outbox
+            WHERE next_attempt_at <= :now
+              AND dead_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StorageDeletion> lockDueBatch(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT d.objectKey FROM StorageDeletion d WHERE d.objectKey IN :keys")
+    List<String> findQueuedKeys(@Param("keys") Collection<String> keys);
+}
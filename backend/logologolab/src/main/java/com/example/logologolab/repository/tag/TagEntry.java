@@ -0,0 +1,7 @@
+package com.example.logologolab.repository.tag;
+
+/** 태그 id-name 쌍 (사전 적재용 projection) */
+public interface TagEntry {
+    Long getId();
+    String getName();
+}
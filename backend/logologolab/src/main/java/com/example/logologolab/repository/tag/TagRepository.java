@@ -2,6 +2,8 @@ package com.example.logologolab.repository.tag;
 
 import com.example.logologolab.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -12,4 +14,28 @@ import java.util.Optional;
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
     List<Tag> findByNameIn(Collection<String> names);
-}
\ No newline at end of file
+
+    // 사용자가 만든 산출물 3종의 태그 조인 테이블을 한 번에 집계 (산출물/태그 엔티티 로딩 없음)
+    @Query(value = """
+            SELECT t.id AS id, t.name AS name, COUNT(*) AS usageCount
+            FROM (
+                SELECT lt.tag_id FROM logo_tags lt JOIN logo l ON l.id = lt.logo_id WHERE l.created_by_id = :userId
+                UNION ALL
+                SELECT ct.tag_id FROM color_guide_tags ct JOIN color_guide c ON c.id = ct.color_guide_id WHERE c.created_by_id = :userId
+                UNION ALL
+                SELECT bt.tag_id FROM brand_strategy_tags bt JOIN brand_strategy b ON b.id = bt.brand_strategy_id WHERE b.created_by_id = :userId
+            ) u
+            JOIN tag t ON t.id = u.tag_id
+            GROUP BY t.id, t.name
+            ORDER BY usageCount DESC, t.name
+            """, nativeQuery = true)
+    List<TagUsage> findUsageByOwner(@Param("userId") Long userId);
+
+    // 태그 사전 적재용 (엔티티/연관 컬렉션 로딩 없음)
+    @Query("SELECT t.id AS id, t.name AS name FROM Tag t")
+    List<TagEntry> findAllEntries();
+
+    // upsert 직후 확정 ID 조회: 잠금 읽기로 다른 트랜잭션이 먼저 커밋한 row도 보이게 함
+    @Query(value = "SELECT id AS id, name AS name FROM tag WHERE name IN (:names) FOR SHARE", nativeQuery = true)
+    List<TagEntry> findEntriesForShare(@Param("names") Collection<String> names);
+}
@@ -0,0 +1,8 @@
+package com.example.logologolab.repository.tag;
+
+/** 태그별 사용 횟수 집계 결과 (native query projection) */
+public interface TagUsage {
+    Long getId();
+    String getName();
+    Long getUsageCount();
+}
@@ -3,8 +3,13 @@ package com.example.logologolab.repository.user;
 import com.example.logologolab.domain.User;
 import com.example.logologolab.domain.ProviderType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailAndProvider(String email, ProviderType provider);
 
     Optional<User> findByEmail(String email);
+
+    /* ===== 프로필 이미지 마이그레이션 (data URI → 저장소 URL) ===== */
+
+    // 아직 URL이 아닌(data URI / 순수 base64) 행의 id만 키셋 페이징
+    @Query(value = "SELECT id FROM `user` WHERE id > :afterId AND profile_image_url IS NOT NULL " +
+            "AND profile_image_url NOT LIKE 'http%' ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findInlineProfileImageIds(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query("select u.profileImageUrl from User u where u.id = :id")
+    String findProfileImageUrlById(@Param("id") Long id);
+
+    // 마이그레이션 도중 사용자가 이미 새 이미지로 바꿨으면 덮어쓰지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.profileImageUrl = :url where u.id = :id and u.profileImageUrl not like 'http%'")
+    int replaceInlineProfileImage(@Param("id") Long id, @Param("url") String url);
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.logologolab.security;
+
+import com.example.logologolab.domain.ProviderType;
+import com.example.logologolab.domain.RoleType;
+import com.example.logologolab.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (email, provider) → 사용자 식별 정보 단기 캐시 (요청 간 공유, 인스턴스 로컬).
+ * 엔티티는 스레드 간에 공유하지 않고 불변 스냅샷만 보관한다. 엔티티가 필요하면 id로 getReferenceById.
+ * 같은 노드의 수정/삭제는 커밋 직후 evict, 다른 노드에는 ttl 이내로 반영된다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    /** 캐시에 보관하는 사용자 스냅샷 */
+    public record CachedUser(Long id, String email, ProviderType provider, RoleType role) {
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getEmail(), user.getProvider(), user.getRole());
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public AuthenticatedUserCache(
+            @Value("${auth.user-cache.ttl:PT30S}") Duration ttl,
+            @Value("${auth.user-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    public CachedUser get(String email, ProviderType provider) {
+        String key = key(email, provider);
+        Entry e = entries.get(key);
+        if (e == null) return null;
+        if (System.currentTimeMillis() >= e.expiresAt) {
+            entries.remove(key, e);
+            return null;
+        }
+        return e.user;
+    }
+
+    public void put(User user) {
+        if (ttlMillis <= 0) return;
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(e -> now >= e.expiresAt);
+            if (entries.size() >= maxEntries) entries.clear();
+        }
+        entries.put(key(user.getEmail(), user.getProvider()), new Entry(CachedUser.of(user), System.currentTimeMillis() + ttlMillis));
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 삭제 (커밋 전에 지우면 다른 요청이 옛 값을 다시 채움) */
+    public void evict(String email, ProviderType provider) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(key(email, provider));
+                }
+            });
+        } else {
+            entries.remove(key(email, provider));
+        }
+    }
+
+    private static String key(String email, ProviderType provider) {
+        return provider.name() + ":" + email;
+    }
+
+    private record Entry(CachedUser user, long expiresAt) {}
+}
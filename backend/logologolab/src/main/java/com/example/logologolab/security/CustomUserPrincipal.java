@@ -4,17 +4,27 @@ import com.example.logologolab.domain.ProviderType;
 import com.example.logologolab.domain.RoleType;
 
 public class CustomUserPrincipal {
+    private final Long userId; // 토큰의 uid 클레임 (이전에 발급된 토큰이면 null)
     private final String email;
     private final ProviderType provider;
     private final RoleType role;
 
 
     public CustomUserPrincipal(String email, ProviderType provider, RoleType role) {
+        this(null, email, provider, role);
+    }
+
+    public CustomUserPrincipal(Long userId, String email, ProviderType provider, RoleType role) {
+        this.userId = userId;
         this.email = email;
         this.provider = provider;
         this.role = role;
     }
 
+    public Long getUserId() {
+        return userId;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -3,6 +3,7 @@ package com.example.logologolab.security;
 import com.example.logologolab.domain.ProviderType;
 import com.example.logologolab.domain.RoleType;
 import com.example.logologolab.service.auth.LogoutService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -64,24 +65,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1) 쿠키(또는 Authorization 헤더)에서 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰이 없거나 유효하지 않으면 '그냥 통과'
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
+        // 토큰이 없거나 유효하지 않으면 '그냥 통과' (검증은 여기서 1회, 이후엔 claims 사용)
+        Claims claims = (token == null) ? null : jwtTokenProvider.getVerifiedClaims(token);
+        if (claims == null) {
             SecurityContextHolder.clearContext(); // 보수적 초기화
             filterChain.doFilter(request, response);
             return;
         }
 
         // 블랙리스트여도 여기서 401/403 쓰지 말고 컨텍스트만 비우고 통과
-        if (logoutService.isBlacklisted(token)) {
+        if (logoutService.isBlacklisted(claims.getId(), token)) {
             SecurityContextHolder.clearContext();
             filterChain.doFilter(request, response);
             return;
         }
 
         // 3) 클레임 파싱 (널/형식 방어)
-        String email = jwtTokenProvider.getEmail(token);
-        String providerStr = jwtTokenProvider.getProvider(token);
-        String roleStr = jwtTokenProvider.getRole(token);
+        String email = claims.getSubject();
+        String providerStr = claims.get("provider", String.class);
+        String roleStr = claims.get("role", String.class);
 
         // 클레임 이상 시에도 직접 401 쓰지 않고 통과 → 인가 규칙이 최종 판단
         if (email == null || providerStr == null || roleStr == null) {
@@ -103,7 +105,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 4) Principal/권한 세팅
-        CustomUserPrincipal principal = new CustomUserPrincipal(email, provider, role);
+        CustomUserPrincipal principal = new CustomUserPrincipal(claims.get("uid", Long.class), email, provider, role);
         List<SimpleGrantedAuthority> authorities =
                 List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
 
@@ -3,15 +3,22 @@ package com.example.logologolab.security;
 import com.example.logologolab.domain.ProviderType;
 import com.example.logologolab.domain.RoleType;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.SignatureException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
     @Value("${jwt.secret-key}")
     private String SECRET_KEY;
 
@@ -21,10 +28,12 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}") // refresh token 만료시간 (ms)
     private long REFRESH_TOKEN_EXPIRATION;
 
-    // Access Token 생성 (role 포함)
-    public String createAccessToken(String email, ProviderType provider, RoleType role) {
+    // Access Token 생성 (role, uid 포함)
+    public String createAccessToken(Long userId, String email, ProviderType provider, RoleType role) {
         return Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(email)
+                .claim("uid", userId)
                 .claim("provider", provider.name())
                 .claim("role", role.name())
                 .setIssuedAt(new Date())
@@ -36,6 +45,7 @@ public class JwtTokenProvider {
     // Refresh Token 생성 (role 없음)
     public String createRefreshToken(String email, ProviderType provider) {
         return Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(email)
                 .claim("provider", provider.name())
                 .setIssuedAt(new Date())
@@ -44,25 +54,45 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // jti: 128bit 난수의 base64url (22자). 블랙리스트/리프레시 세션의 고정 길이 식별자
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 검증 캐시에 있으면 서명 검증 생략, 없으면 파싱(실패 시 예외) 후 캐시
     private Claims getClaims(String token) {
-        return Jwts.parser()
+        Claims cached = verifiedClaimsCache.get(token);
+        if (cached != null) return cached;
+
+        Claims claims = Jwts.parser()
                 .setSigningKey(SECRET_KEY)
                 .parseClaimsJws(token)
                 .getBody();
+        verifiedClaimsCache.put(token, claims);
+        return claims;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료를 한 번만 검증하고 Claims 반환. 유효하지 않으면 null (필터에서 사용)
+     */
+    public Claims getVerifiedClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token);
-            return true;
-        } catch (SignatureException | ExpiredJwtException | MalformedJwtException e) {
-            return false;
+            return getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return getVerifiedClaims(token) != null;
+    }
+
     public String getEmail(String token) { return getClaims(token).getSubject(); }
     public String getProvider(String token) { return (String) getClaims(token).get("provider"); }
     public String getRole(String token) { return (String) getClaims(token).get("role"); } // ★ 추가
     public Date getExpirationDate(String token) { return getClaims(token).getExpiration(); }
+    public String getTokenId(String token) { return getClaims(token).getId(); } // 이전 발급 토큰은 null
     public long getAccessTokenExpiration() { return ACCESS_TOKEN_EXPIRATION; }
 }
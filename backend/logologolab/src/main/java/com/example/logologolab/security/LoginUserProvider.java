@@ -8,29 +8,72 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Component
 @RequiredArgsConstructor
 public class LoginUserProvider {
+    private static final String REQUEST_ATTR_PREFIX = LoginUserProvider.class.getName() + ".";
+
     private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     public User getLoginUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserPrincipal principal = currentPrincipal();
+        if (principal == null) {
+            throw new IllegalStateException("인증 정보가 없습니다.");
+        }
+        return findUser(principal.getEmail(), principal.getProvider());
+    }
 
-        if (authentication == null ||
-            !authentication.isAuthenticated() ||
-            authentication.getPrincipal().equals("anonymousUser")) {
+    public User getLoginUserIfExists() {
+        CustomUserPrincipal principal = currentPrincipal();
+        if (principal == null) {
+            return null;
+        }
+        return findUser(principal.getEmail(), principal.getProvider());
+    }
+
+    /**
+     * FK 지정처럼 id만 필요할 때: 토큰에 uid가 있으면 SELECT 없이 프록시 반환
+     */
+    public User getLoginUserReference() {
+        CustomUserPrincipal principal = currentPrincipal();
+        if (principal == null) {
             throw new IllegalStateException("인증 정보가 없습니다.");
         }
+        if (principal.getUserId() != null) {
+            return userRepository.getReferenceById(principal.getUserId());
+        }
+        return findUser(principal.getEmail(), principal.getProvider());
+    }
+
+    /**
+     * (email, provider) 사용자 조회: 요청 내 메모 → 단기 캐시 → DB 순.
+     * 캐시 적중 시 id 기반 프록시를 반환하므로 id 외 필드는 처음 접근할 때 PK로 로딩된다.
+     */
+    public User findUser(String email, ProviderType provider) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        String attrName = REQUEST_ATTR_PREFIX + provider.name() + ":" + email;
+        if (attrs != null && attrs.getAttribute(attrName, RequestAttributes.SCOPE_REQUEST) instanceof User memo) {
+            return memo;
+        }
 
-        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
-        String email = principal.getEmail();
-        ProviderType provider = principal.getProvider();
+        User user;
+        AuthenticatedUserCache.CachedUser cached = authenticatedUserCache.get(email, provider);
+        if (cached != null) {
+            user = userRepository.getReferenceById(cached.id());
+        } else {
+            user = userRepository.findByEmailAndProvider(email, provider).orElseThrow(UnauthenticatedUserException::new);
+            authenticatedUserCache.put(user);
+        }
 
-        return userRepository.findByEmailAndProvider(email, provider).orElseThrow(UnauthenticatedUserException::new);
+        if (attrs != null) attrs.setAttribute(attrName, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
     }
 
-    public User getLoginUserIfExists() {
+    private CustomUserPrincipal currentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null ||
@@ -38,11 +81,6 @@ public class LoginUserProvider {
             authentication.getPrincipal().equals("anonymousUser")) {
             return null;
         }
-
-        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
-        String email = principal.getEmail();
-        ProviderType provider = principal.getProvider();
-
-        return userRepository.findByEmailAndProvider(email, provider).orElseThrow(UnauthenticatedUserException::new);
+        return (CustomUserPrincipal) authentication.getPrincipal();
     }
 }
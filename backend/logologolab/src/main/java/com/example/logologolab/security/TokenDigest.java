@@ -0,0 +1,29 @@
+package com.example.logologolab.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** 토큰/식별자를 고정 길이 SHA-256 digest로 바꾸는 헬퍼 */
+public final class TokenDigest {
+
+    private TokenDigest() {}
+
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** base64url(SHA-256), 43자 */
+    public static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    public static String sha256Encoded(String value) {
+        return encode(sha256(value));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.logologolab.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims 캐시.
+ * - 키: 토큰 원문의 SHA-256 (원문 토큰을 메모리에 오래 들고 있지 않음)
+ * - 항목은 토큰 exp 시각에 만료 → 만료 판정은 파싱할 때와 동일
+ * - max-entries를 넘으면 만료 항목부터, 그래도 가득 차면 임의 항목을 덜어낸다
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public Claims get(String token) {
+        String key = digest(token);
+        Entry e = entries.get(key);
+        if (e == null) return null;
+        if (System.currentTimeMillis() >= e.expiresAt) {
+            entries.remove(key, e);
+            return null;
+        }
+        return e.claims;
+    }
+
+    public void put(String token, Claims claims) {
+        if (maxEntries <= 0 || claims.getExpiration() == null) return;
+        if (entries.size() >= maxEntries) shrink();
+        entries.put(digest(token), new Entry(claims, claims.getExpiration().getTime()));
+    }
+
+    /** 로그아웃 등으로 더 이상 캐시에서 통과시키면 안 되는 토큰 */
+    public void evict(String token) {
+        entries.remove(digest(token));
+    }
+
+    private void shrink() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> now >= e.expiresAt);
+
+        // 유효한 토큰만으로 가득 찼으면 1/10 정도 비움 (다시 검증하면 되므로 정확한 LRU는 필요 없음)
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenDigest.sha256Encoded(token);
+    }
+
+    private record Entry(Claims claims, long expiresAt) {}
+}
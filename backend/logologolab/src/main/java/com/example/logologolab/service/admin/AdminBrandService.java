@@ -4,20 +4,22 @@ import com.example.logologolab.domain.*;
 import com.example.logologolab.dto.brand.*;
 import com.example.logologolab.repository.brand.BrandStrategyRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
-import com.example.logologolab.repository.tag.TagRepository;
+import com.example.logologolab.service.tag.TagDictionary;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
+import com.example.logologolab.service.tag.UserTagCache;
 import com.example.logologolab.service.gpt.GptPromptService;
+import com.example.logologolab.service.search.AssetSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +28,12 @@ public class AdminBrandService {
 
     private final BrandStrategyRepository brandStrategyRepository;
     private final UserRepository userRepository;
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final GptPromptService gptPromptService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
 
     // 1. [관리자] 브랜딩 전략 생성 (GPT 호출)
     public String generateBrandStrategy(BrandStrategyRequest req) {
@@ -67,28 +72,19 @@ public class AdminBrandService {
                 .createdBy(creator)
                 .build();
 
-        return BrandStrategyResponse.from(brandStrategyRepository.save(e));
+        BrandStrategy saved = brandStrategyRepository.save(e);
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        assetSearchService.reindex(AssetType.BRAND_STRATEGY, saved.getId());
+        return BrandStrategyResponse.from(saved);
     }
 
     // 3. [관리자] 전체 리스트 조회 (projectId 필터 추가)
     public Page<BrandStrategyListItem> getAllBrandStrategies(Long projectId, Pageable pageable) {
-        Page<BrandStrategy> page;
-
+        // 카드 컬럼만 읽는 projection (본문/설명 TEXT 제외)
         if (projectId != null) {
-            // 프로젝트 ID가 있으면 해당 프로젝트의 전략만 조회
-            page = brandStrategyRepository.findByProjectId(projectId, pageable);
-        } else {
-            // 없으면 전체 조회
-            page = brandStrategyRepository.findAll(pageable);
+            return brandStrategyRepository.findItemsByProjectId(projectId, pageable);
         }
-
-        return page.map(e -> new BrandStrategyListItem(
-                e.getId(),
-                e.getBriefKo(),
-                e.getStyle(),
-                e.getMarkdown(),
-                e.getCreatedAt()
-        ));
+        return brandStrategyRepository.findItems(pageable);
     }
 
     // 4. [관리자] 상세 조회
@@ -105,6 +101,8 @@ public class AdminBrandService {
                 .orElseThrow(() -> new NoSuchElementException("브랜딩 전략을 찾을 수 없습니다. ID: " + id));
 
         e.updateMarkdown(req.markdown());
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        assetSearchService.reindex(AssetType.BRAND_STRATEGY, id);
         return BrandStrategyResponse.from(e);
     }
 
@@ -122,6 +120,9 @@ public class AdminBrandService {
 
         // 삭제
         brandStrategyRepository.delete(e);
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        userTagCache.evict(e.getCreatedBy().getId());
+        assetSearchService.remove(AssetType.BRAND_STRATEGY, id);
     }
 
     // 7. [관리자] 태그 수정/할당
@@ -130,28 +131,11 @@ public class AdminBrandService {
         BrandStrategy e = brandStrategyRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("브랜딩 전략을 찾을 수 없습니다. ID: " + id));
 
-        Set<Tag> tags = findOrCreateTags(tagNames);
+        Set<Tag> tags = tagDictionary.resolve(tagNames);
         e.setTags(tags);
+        userTagCache.evict(e.getCreatedBy().getId());
+        assetSearchService.reindex(AssetType.BRAND_STRATEGY, id);
 
         return BrandStrategyResponse.from(e);
     }
-
-    // 내부 헬퍼: 태그 생성 로직 (다른 Admin 서비스들과 동일)
-    private Set<Tag> findOrCreateTags(List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) return new HashSet<>();
-
-        List<Tag> existingTags = tagRepository.findByNameIn(tagNames);
-        Set<String> existingNames = existingTags.stream().map(Tag::getName).collect(Collectors.toSet());
-
-        List<Tag> newTags = tagNames.stream()
-                .filter(name -> !existingNames.contains(name))
-                .map(Tag::new)
-                .collect(Collectors.toList());
-
-        tagRepository.saveAll(newTags);
-
-        Set<Tag> result = new HashSet<>(existingTags);
-        result.addAll(newTags);
-        return result;
-    }
 }
\ No newline at end of file
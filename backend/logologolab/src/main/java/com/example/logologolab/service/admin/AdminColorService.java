@@ -4,20 +4,22 @@ import com.example.logologolab.domain.*;
 import com.example.logologolab.dto.color.*;
 import com.example.logologolab.repository.color.ColorGuideRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
-import com.example.logologolab.repository.tag.TagRepository;
+import com.example.logologolab.service.tag.TagDictionary;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
+import com.example.logologolab.service.tag.UserTagCache;
 import com.example.logologolab.service.gpt.GptPromptService;
+import com.example.logologolab.service.search.AssetSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +28,12 @@ public class AdminColorService {
 
     private final ColorGuideRepository colorGuideRepository;
     private final UserRepository userRepository;
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final GptPromptService gptPromptService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
 
     // Hex 정규화 헬퍼
     private static String normHex(String hex) {
@@ -77,31 +82,19 @@ public class AdminColorService {
                 .backgroundHex(normHex(g.background().hex())).backgroundDesc(g.background().description())
                 .build();
 
-        return ColorGuideResponse.from(colorGuideRepository.save(e));
+        ColorGuide saved = colorGuideRepository.save(e);
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        assetSearchService.reindex(AssetType.COLOR_GUIDE, saved.getId());
+        return ColorGuideResponse.from(saved);
     }
 
     // 3. [관리자] 전체 리스트 조회 (projectId 필터 추가)
     public Page<ColorGuideListItem> getAllColorGuides(Long projectId, Pageable pageable) {
-        Page<ColorGuide> page;
-
+        // 카드 컬럼만 읽는 projection (본문/설명 TEXT 제외)
         if (projectId != null) {
-            page = colorGuideRepository.findByProjectId(projectId, pageable);
-        } else {
-            page = colorGuideRepository.findAll(pageable);
+            return colorGuideRepository.findItemsByProjectId(projectId, pageable);
         }
-
-        return page.map(e -> new ColorGuideListItem(
-                e.getId(),
-                e.getBriefKo(),
-                e.getStyle(),
-                new ColorGuideDTO(
-                        new ColorGuideDTO.Role(e.getMainHex(), e.getMainDesc()),
-                        new ColorGuideDTO.Role(e.getSubHex(), e.getSubDesc()),
-                        new ColorGuideDTO.Role(e.getPointHex(), e.getPointDesc()),
-                        new ColorGuideDTO.Role(e.getBackgroundHex(), e.getBackgroundDesc())
-                ),
-                e.getCreatedAt()
-        ));
+        return colorGuideRepository.findItems(pageable);
     }
 
     // 4. [관리자] 상세 조회
@@ -124,6 +117,8 @@ public class AdminColorService {
                 normHex(g.point().hex()), g.point().description(),
                 normHex(g.background().hex()), g.background().description()
         );
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        assetSearchService.reindex(AssetType.COLOR_GUIDE, id);
         return ColorGuideResponse.from(e);
     }
 
@@ -140,6 +135,9 @@ public class AdminColorService {
         }
 
         colorGuideRepository.delete(e);
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        userTagCache.evict(e.getCreatedBy().getId());
+        assetSearchService.remove(AssetType.COLOR_GUIDE, id);
     }
 
     // 7. [관리자] 태그 수정/할당
@@ -148,28 +146,11 @@ public class AdminColorService {
         ColorGuide e = colorGuideRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("컬러 가이드를 찾을 수 없습니다. ID: " + id));
 
-        Set<Tag> tags = findOrCreateTags(tagNames);
+        Set<Tag> tags = tagDictionary.resolve(tagNames);
         e.setTags(tags);
+        userTagCache.evict(e.getCreatedBy().getId());
+        assetSearchService.reindex(AssetType.COLOR_GUIDE, id);
 
         return ColorGuideResponse.from(e);
     }
-
-    // 내부 헬퍼: 태그 생성 로직 (AdminLogoService와 동일)
-    private Set<Tag> findOrCreateTags(List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) return new HashSet<>();
-
-        List<Tag> existingTags = tagRepository.findByNameIn(tagNames);
-        Set<String> existingNames = existingTags.stream().map(Tag::getName).collect(Collectors.toSet());
-
-        List<Tag> newTags = tagNames.stream()
-                .filter(name -> !existingNames.contains(name))
-                .map(Tag::new)
-                .collect(Collectors.toList());
-
-        tagRepository.saveAll(newTags);
-
-        Set<Tag> result = new HashSet<>(existingTags);
-        result.addAll(newTags);
-        return result;
-    }
 }
\ No newline at end of file
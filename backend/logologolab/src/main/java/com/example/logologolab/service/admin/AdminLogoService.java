@@ -7,19 +7,22 @@ import com.example.logologolab.dto.logo.LogoListItem;
 import com.example.logologolab.dto.logo.LogoResponse;
 import com.example.logologolab.repository.logo.LogoRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
-import com.example.logologolab.repository.tag.TagRepository;
-import com.example.logologolab.service.s3.S3UploadService;
+import com.example.logologolab.service.tag.TagDictionary;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
+import com.example.logologolab.service.tag.UserTagCache;
+import com.example.logologolab.service.s3.S3DeletionOutboxService;
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.service.search.AssetSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,26 +30,20 @@ import java.util.stream.Collectors;
 public class AdminLogoService {
 
     private final LogoRepository logoRepository;
-    private final TagRepository tagRepository;
-    private final S3UploadService s3UploadService;
+    private final TagDictionary tagDictionary;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
 
     // 1. 전체 로고 리스트 조회 (projectId 필터 추가)
     public Page<LogoListItem> getAllLogos(Long projectId, Pageable pageable) {
-        Page<Logo> page;
-
+        // 카드 컬럼만 읽는 projection (본문/설명 TEXT 제외)
         if (projectId != null) {
-            page = logoRepository.findByProjectId(projectId, pageable);
-        } else {
-            page = logoRepository.findAll(pageable);
+            return logoRepository.findItemsByProjectId(projectId, pageable);
         }
-
-        return page.map(logo -> new LogoListItem(
-                logo.getId(),
-                logo.getPrompt(),
-                logo.getImageUrl(),
-                logo.getCreatedAt()
-        ));
+        return logoRepository.findItems(pageable);
     }
 
     // 2. 로고 상세 조회 (소유자 체크 X)
@@ -62,8 +59,8 @@ public class AdminLogoService {
         Logo logo = logoRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("해당 로고를 찾을 수 없습니다. ID: " + id));
 
-        // 1. S3 삭제
-        s3UploadService.deleteObjectByUrl(logo.getImageUrl());
+        // 1. S3 삭제 예약 (커밋 후 워커가 일괄 삭제)
+        s3DeletionOutboxService.enqueue(logo.getImageUrl());
 
         // 2. 프로젝트와의 연결 고리 끊기
         List<Project> projects = projectRepository.findAllByLogoId(id);
@@ -73,6 +70,9 @@ public class AdminLogoService {
 
         // 33 DB 삭제
         logoRepository.delete(logo);
+        publicFeedCache.invalidate(FeedType.LOGO);
+        userTagCache.evict(logo.getCreatedBy().getId());
+        assetSearchService.remove(AssetType.LOGO, id);
     }
 
     // 4. [관리자] 태그 수정/할당
@@ -82,37 +82,13 @@ public class AdminLogoService {
                 .orElseThrow(() -> new NoSuchElementException("해당 로고를 찾을 수 없습니다. ID: " + id));
 
         // 태그 조회 및 생성 로직 (TagService 로직과 동일하게 구현)
-        Set<Tag> tags = findOrCreateTags(tagNames);
+        Set<Tag> tags = tagDictionary.resolve(tagNames);
 
         // 태그 교체
         logo.setTags(tags);
+        userTagCache.evict(logo.getCreatedBy().getId());
+        assetSearchService.reindex(AssetType.LOGO, id);
 
         return LogoResponse.from(logo);
     }
-
-    // 내부 헬퍼: 태그 이름 목록으로 Tag 엔티티 Set 반환
-    private Set<Tag> findOrCreateTags(List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return new HashSet<>();
-        }
-
-        // 1. 기존 태그 조회
-        List<Tag> existingTags = tagRepository.findByNameIn(tagNames);
-        Set<String> existingTagNames = existingTags.stream()
-                .map(Tag::getName)
-                .collect(Collectors.toSet());
-
-        // 2. 없는 태그 새로 생성
-        List<Tag> newTags = tagNames.stream()
-                .filter(name -> !existingTagNames.contains(name))
-                .map(Tag::new)
-                .collect(Collectors.toList());
-
-        tagRepository.saveAll(newTags);
-
-        // 3. 합치기
-        Set<Tag> result = new HashSet<>(existingTags);
-        result.addAll(newTags);
-        return result;
-    }
 }
\ No newline at end of file
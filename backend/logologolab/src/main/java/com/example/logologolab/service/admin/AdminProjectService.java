@@ -4,11 +4,10 @@ import com.example.logologolab.domain.*;
 import com.example.logologolab.dto.project.ProjectListItem;
 import com.example.logologolab.dto.project.ProjectRequest;
 import com.example.logologolab.dto.project.ProjectResponse;
-import com.example.logologolab.repository.brand.BrandStrategyRepository;
-import com.example.logologolab.repository.color.ColorGuideRepository;
-import com.example.logologolab.repository.logo.LogoRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.service.project.ProjectAssetLinker;
+import com.example.logologolab.service.project.ProjectAssetLinks;
 import com.example.logologolab.domain.User;
 import com.example.logologolab.domain.ProviderType; // ProviderType import 확인
 
@@ -18,8 +17,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -27,9 +24,7 @@ import java.util.NoSuchElementException;
 public class AdminProjectService {
 
     private final ProjectRepository projectRepository;
-    private final BrandStrategyRepository brandStrategyRepository;
-    private final ColorGuideRepository colorGuideRepository;
-    private final LogoRepository logoRepository;
+    private final ProjectAssetLinker projectAssetLinker;
     private final UserRepository userRepository;
     private final jakarta.persistence.EntityManager em;
 
@@ -44,30 +39,25 @@ public class AdminProjectService {
                 .user(adminUser)
                 .build();
 
-        projectRepository.save(project);
+        projectRepository.saveAndFlush(project); // 조인 row(JDBC) insert 전에 프로젝트 row 반영
 
-        // 관리자는 소유권 상관없이 연결 가능하도록 처리
-        linkAssetsAny(project.getId(), req);
+        // 관리자는 소유권 상관없이 연결 가능하도록 처리 (존재하는 자산만)
+        ProjectAssetLinks links = projectAssetLinker.sync(project.getId(), req, null);
 
-        em.flush();
-        em.clear();
-
-        Project saved = projectRepository.findByIdWithAssets(project.getId()).orElseThrow();
-        return toResponse(saved);
+        return links.toResponse(project);
     }
 
     // 2. [관리자] 전체 프로젝트 리스트 조회
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getAllProjects(Pageable pageable) {
-        // N+1 방지를 위해 application.yml에 default_batch_fetch_size 설정 필수
-        return projectRepository.findAll(pageable)
-                .map(this::toResponse);
+        // 자산 ID는 조인 테이블에서만 조회 (자산 엔티티 로딩 없음)
+        return ProjectAssetLinks.toResponses(projectRepository, projectRepository.findAll(pageable));
     }
 
     // 3. [관리자] 프로젝트 상세 조회
     @Transactional(readOnly = true)
     public ProjectResponse getProject(Long projectId) {
-        Project p = projectRepository.findByIdWithAssets(projectId)
+        Project p = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NoSuchElementException("프로젝트를 찾을 수 없습니다. ID: " + projectId));
         return toResponse(p);
     }
@@ -81,14 +71,11 @@ public class AdminProjectService {
 
         project.setName(req.getName());
 
-        // 자산 연결 재설정 (강제 연결)
-        linkAssetsAny(projectId, req);
+        // 자산 연결 재설정 (강제 연결, 차이분만 반영)
+        ProjectAssetLinks links = projectAssetLinker.sync(projectId, req, null);
 
         em.flush();
-        em.clear();
-
-        Project updated = projectRepository.findByIdWithAssets(projectId).orElseThrow();
-        return toResponse(updated);
+        return links.toResponse(project);
     }
 
     // 5. [관리자] 프로젝트 삭제
@@ -101,39 +88,8 @@ public class AdminProjectService {
         projectRepository.delete(project);
     }
 
-    // [Helper] 관리자용 에셋 연결 (소유권 체크 없음)
-    private void linkAssetsAny(Long projectId, ProjectRequest req) {
-        Project project = projectRepository.getReferenceById(projectId);
-
-        // 1. 기존 연결 초기화
-        project.getBrandStrategies().clear();
-        project.getColorGuides().clear();
-        project.getLogos().clear();
-
-        // 2. ID로 조회하여 무조건 연결 (소유자 체크 로직 제거됨)
-        if (req.getBrandStrategyIds() != null && !req.getBrandStrategyIds().isEmpty()) {
-            List<BrandStrategy> list = brandStrategyRepository.findAllById(req.getBrandStrategyIds());
-            project.getBrandStrategies().addAll(list);
-        }
-
-        if (req.getColorGuideIds() != null && !req.getColorGuideIds().isEmpty()) {
-            List<ColorGuide> list = colorGuideRepository.findAllById(req.getColorGuideIds());
-            project.getColorGuides().addAll(list);
-        }
-
-        if (req.getLogoIds() != null && !req.getLogoIds().isEmpty()) {
-            List<Logo> list = logoRepository.findAllById(req.getLogoIds());
-            project.getLogos().addAll(list);
-        }
-    }
-
-    // [Helper] 응답 변환
+    // [Helper] 응답 변환 (자산 ID는 조인 테이블에서 컬렉션별로 조회)
     private ProjectResponse toResponse(Project p) {
-        return ProjectResponse.of(
-                p,
-                new ArrayList<>(p.getBrandStrategies()),
-                new ArrayList<>(p.getColorGuides()),
-                new ArrayList<>(p.getLogos())
-        );
+        return ProjectAssetLinks.toResponse(projectRepository, p);
     }
 }
\ No newline at end of file
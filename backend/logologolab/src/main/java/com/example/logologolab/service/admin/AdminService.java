@@ -6,10 +6,12 @@ import com.example.logologolab.dto.admin.user.AdminUserResponse;
 import com.example.logologolab.dto.admin.user.AdminUserUpdateRequest;
 import com.example.logologolab.repository.logo.LogoRepository;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.security.AuthenticatedUserCache;
+import com.example.logologolab.service.auth.RefreshTokenService;
+import com.example.logologolab.service.user.ProfileImageService;
 import com.example.logologolab.domain.ProviderType;
 import com.example.logologolab.dto.admin.user.AdminUserCreateRequest;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import lombok.RequiredArgsConstructor;
@@ -18,34 +20,36 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AdminService {
 
-    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final LogoRepository logoRepository;
+    private final ProfileImageService profileImageService;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final RefreshTokenService refreshTokenService;
 
-    /** [어드민] 신규 사용자 생성 */
-    public AdminUserResponse createUser(AdminUserCreateRequest request) {
+    /** [어드민] 신규 사용자 생성 (hashedPassword는 트랜잭션 밖에서 만든 해시) */
+    public AdminUserResponse createUser(AdminUserCreateRequest request, String hashedPassword) {
         // 1. 중복 체크 (모든 Provider 대상)
         if (userRepository.findByEmailAndProvider(request.getEmail(), ProviderType.LOCAL).isPresent()) {
             throw new IllegalArgumentException("이미 'LOCAL' 계정으로 사용 중인 이메일입니다: " + request.getEmail());
         }
 
-        // 2. 비밀번호 암호화
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
-
         User newUser = User.createLocalUser(
                 request.getEmail(),
                 hashedPassword,
                 request.getNickname()
         );
-        // 3. 역할(Role)을 요청에 따라 지정
+        // 2. 역할(Role)을 요청에 따라 지정
         newUser.updateRole(request.getRole());
 
         User savedUser = userRepository.save(newUser);
@@ -78,7 +82,11 @@ public class AdminService {
 
         // 프로필 이미지 변경
         if (request.getProfileImage() != null) {
-            user.updateProfileImageUrl(request.getProfileImage());
+            String url = profileImageService.toStoredUrl(request.getProfileImage());
+            if (!Objects.equals(url, user.getProfileImageUrl())) {
+                profileImageService.release(user.getProfileImageUrl());
+                user.updateProfileImageUrl(url);
+            }
         }
 
         // 전화번호 변경
@@ -98,15 +106,38 @@ public class AdminService {
                 request.getNewsLetter()
         );
 
+        authenticatedUserCache.evict(user.getEmail(), user.getProvider());
         return AdminUserResponse.from(user);
     }
 
     /** [어드민] 사용자 ID로 사용자 삭제 */
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new NoSuchElementException("ID에 해당하는 사용자가 없습니다: " + userId);
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("ID에 해당하는 사용자가 없습니다: " + userId));
         // 사용자와 연관된 데이터(산출물, 프로젝트 등) 처리 정책 결정 필요
-        userRepository.deleteById(userId);
+        profileImageService.release(user.getProfileImageUrl());
+        userRepository.delete(user);
+
+        // 세션 폐기(Redis)는 삭제가 커밋된 뒤에: 트랜잭션 동안 Redis 호출을 기다리지 않고, 롤백되면 세션을 유지
+        String email = user.getEmail();
+        ProviderType provider = user.getProvider();
+        afterCommit(() -> {
+            authenticatedUserCache.evict(email, provider);
+            refreshTokenService.revokeAllSessions(email, provider);
+        });
+    }
+
+    /** 트랜잭션이 있으면 커밋 후 실행, 없으면 즉시 실행 */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
\ No newline at end of file
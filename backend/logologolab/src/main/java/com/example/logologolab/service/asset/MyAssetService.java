@@ -3,17 +3,22 @@ package com.example.logologolab.service.asset;
 import com.example.logologolab.domain.*;
 import com.example.logologolab.dto.asset.AssetListItem;
 import com.example.logologolab.dto.asset.MyProductsResponse;
+import com.example.logologolab.dto.asset.MyProductsSummary;
 import com.example.logologolab.dto.brand.BrandStrategyListItem;
-import com.example.logologolab.dto.color.ColorGuideDTO;
 import com.example.logologolab.dto.color.ColorGuideListItem;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.logo.LogoListItem;
 import com.example.logologolab.dto.tag.TagListResponse;
-import com.example.logologolab.dto.tag.TagResponse;
+import com.example.logologolab.dto.tag.TagUsageResponse;
 import com.example.logologolab.repository.brand.BrandStrategyRepository;
 import com.example.logologolab.repository.color.ColorGuideRepository;
 import com.example.logologolab.repository.logo.LogoRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
+import com.example.logologolab.repository.tag.TagRepository;
 import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.tag.UserTagCache;
+import com.example.logologolab.support.AssetCursor;
+import com.example.logologolab.support.FeedCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,10 +26,12 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,42 +43,65 @@ public class MyAssetService {
     private final LogoRepository logoRepository;
     private final ColorGuideRepository colorGuideRepository;
     private final BrandStrategyRepository brandStrategyRepository;
+    private final TagRepository tagRepository;
+    private final UserTagCache userTagCache;
+
+    /**
+     * 내 산출물을 종류별로 최신순 size건씩 조회 (종류별 keyset 커서).
+     * type을 지정하면 해당 종류만 조회하고 나머지는 빈 목록.
+     */
+    public MyProductsResponse getMyProducts(AssetType type, int size,
+                                            String logoCursor, String colorGuideCursor, String brandStrategyCursor) {
+        User user = loginUserProvider.getLoginUserReference();
+        Pageable limit = PageRequest.ofSize(FeedCursor.clampSize(size));
+
+        CursorResponse<LogoListItem> logos = (type == null || type == AssetType.LOGO)
+                ? mine(logoCursor,
+                        () -> logoRepository.findMineFeedItems(user, limit),
+                        c -> logoRepository.findMineFeedItemsAfter(user, c.createdAt(), c.id(), limit),
+                        i -> FeedCursor.of(i.createdAt(), i.id()))
+                : null;
+        CursorResponse<ColorGuideListItem> colorGuides = (type == null || type == AssetType.COLOR_GUIDE)
+                ? mine(colorGuideCursor,
+                        () -> colorGuideRepository.findMineFeedItems(user, limit),
+                        c -> colorGuideRepository.findMineFeedItemsAfter(user, c.createdAt(), c.id(), limit),
+                        i -> FeedCursor.of(i.createdAt(), i.id()))
+                : null;
+        CursorResponse<BrandStrategyListItem> brandStrategies = (type == null || type == AssetType.BRAND_STRATEGY)
+                ? mine(brandStrategyCursor,
+                        () -> brandStrategyRepository.findMineFeedItems(user, limit),
+                        c -> brandStrategyRepository.findMineFeedItemsAfter(user, c.createdAt(), c.id(), limit),
+                        i -> FeedCursor.of(i.createdAt(), i.id()))
+                : null;
+
+        return new MyProductsResponse(
+                contentOf(logos), contentOf(colorGuides), contentOf(brandStrategies),
+                nextOf(logos), nextOf(colorGuides), nextOf(brandStrategies)
+        );
+    }
 
-    /** 내 모든 산출물을 종류별로 묶어서 조회 */
-    public MyProductsResponse getMyProducts() {
-        User user = loginUserProvider.getLoginUser();
+    /** 내 산출물 종류별 개수 (created_by 인덱스만 사용) */
+    public MyProductsSummary getMyProductsSummary() {
+        User user = loginUserProvider.getLoginUserReference();
+        return new MyProductsSummary(
+                logoRepository.countByCreatedBy(user),
+                colorGuideRepository.countByCreatedBy(user),
+                brandStrategyRepository.countByCreatedBy(user)
+        );
+    }
+
+    private static <T> CursorResponse<T> mine(String cursor, Supplier<Slice<T>> first,
+                                              Function<FeedCursor, Slice<T>> after, Function<T, FeedCursor> cursorOf) {
+        FeedCursor c = FeedCursor.decode(cursor);
+        return CursorResponse.of((c == null) ? first.get() : after.apply(c), cursorOf);
+    }
 
-        // 1. 종류별로 내 모든 산출물을 조회
-        List<Logo> logos = logoRepository.findAllByCreatedBy(user);
-        List<ColorGuide> colorGuides = colorGuideRepository.findAllByCreatedBy(user);
-        List<BrandStrategy> brandStrategies = brandStrategyRepository.findAllByCreatedBy(user);
-
-        // 2. 각 리스트를 ListItem DTO 리스트로 변환
-        List<LogoListItem> logoListItems = logos.stream()
-                .map(logo -> new LogoListItem(logo.getId(), logo.getPrompt(), logo.getImageUrl(), logo.getCreatedAt()))
-                .toList();
-
-        List<ColorGuideListItem> colorGuideListItems = colorGuides.stream()
-                .map(cg -> new ColorGuideListItem(
-                        cg.getId(),
-                        cg.getBriefKo(),
-                        cg.getStyle(),
-                        new ColorGuideDTO(
-                                new ColorGuideDTO.Role(cg.getMainHex(), cg.getMainDesc()),
-                                new ColorGuideDTO.Role(cg.getSubHex(), cg.getSubDesc()),
-                                new ColorGuideDTO.Role(cg.getPointHex(), cg.getPointDesc()),
-                                new ColorGuideDTO.Role(cg.getBackgroundHex(), cg.getBackgroundDesc())
-                        ),
-                        cg.getCreatedAt()
-                ))
-                .toList();
-
-        List<BrandStrategyListItem> brandStrategyListItems = brandStrategies.stream()
-                .map(bs -> new BrandStrategyListItem(bs.getId(), bs.getBriefKo(), bs.getStyle(), bs.getMarkdown(), bs.getCreatedAt()))
-                .toList();
-
-        // 3. 최종 응답 DTO에 담아 반환
-        return new MyProductsResponse(logoListItems, colorGuideListItems, brandStrategyListItems);
+    private static <T> List<T> contentOf(CursorResponse<T> r) {
+        return (r == null) ? List.of() : r.content();
+    }
+
+    private static String nextOf(CursorResponse<?> r) {
+        return (r == null) ? null : r.nextCursor();
     }
 
     /** 내 프로젝트 목록 조회
@@ -82,52 +112,81 @@ public class MyAssetService {
                 .collect(Collectors.toList());
     }*/
 
-    /** 내가 사용한 태그 목록 조회 */
+    /** 내가 사용한 태그 목록 조회 (사용 횟수 포함, 집계 쿼리 1회 + 사용자별 캐시) */
     public TagListResponse listMyTags() {
-        User user = loginUserProvider.getLoginUser();
-
-        // 내 모든 산출물을 가져와서 태그들을 합친 뒤 중복 제거
-        Stream<Tag> logoTags = logoRepository.findAllByCreatedBy(user).stream().flatMap(l -> l.getTags().stream());
-        Stream<Tag> colorTags = colorGuideRepository.findAllByCreatedBy(user).stream().flatMap(c -> c.getTags().stream());
-        Stream<Tag> brandTags = brandStrategyRepository.findAllByCreatedBy(user).stream().flatMap(b -> b.getTags().stream());
-
-        List<TagResponse> tags = Stream.concat(Stream.concat(logoTags, colorTags), brandTags)
-                .distinct()
-                .map(TagResponse::from)
-                .toList();
-
-        return new TagListResponse(tags); // DTO로 감싸서 반환
+        Long userId = loginUserProvider.getLoginUserReference().getId();
+        return userTagCache.get(userId, () -> new TagListResponse(
+                tagRepository.findUsageByOwner(userId).stream()
+                        .map(u -> new TagUsageResponse(u.getId(), u.getName(), u.getUsageCount()))
+                        .toList()
+        ));
     }
 
-    /** 특정 태그가 달린 내 산출물 목록 조회 (페이징 적용) */
+    /** 병합 정렬 기준: createdAt DESC, 종류 DESC, id DESC (AssetCursor와 같은 순서) */
+    private static final Comparator<AssetListItem> ASSET_ORDER = Comparator
+            .comparing((AssetListItem i) -> i.createdAt().toInstant())
+            .thenComparing(i -> AssetType.valueOf(i.assetType()))
+            .thenComparing(AssetListItem::id)
+            .reversed();
+
+    /**
+     * 특정 태그가 달린 내 산출물 목록 조회 (페이징 적용).
+     * 종류별로 최신순 상위 (offset + size)건만 DB에서 읽어 병합하므로 전체 개수와 무관하게 동작 (개수는 COUNT 3회).
+     */
     public Page<AssetListItem> listMyAssetsByTag(String tagName, Pageable pageable) {
-        User user = loginUserProvider.getLoginUser();
-
-        // 1. 각 종류별로 태그에 해당하는 산출물 조회 (전체 조회)
-        List<AssetListItem> logos = logoRepository.findByTags_NameAndCreatedBy(tagName, user)
-                .stream().map(AssetListItem::from).toList();
+        User user = loginUserProvider.getLoginUserReference();
 
-        List<AssetListItem> colors = colorGuideRepository.findByTags_NameAndCreatedBy(tagName, user)
-                .stream().map(AssetListItem::from).toList();
+        int offset = (int) pageable.getOffset();
+        Pageable top = PageRequest.ofSize(offset + pageable.getPageSize());
 
-        List<AssetListItem> brands = brandStrategyRepository.findByTags_NameAndCreatedBy(tagName, user)
-                .stream().map(AssetListItem::from).toList();
+        List<AssetListItem> merged = merge(
+                logoRepository.findTaggedItems(user, tagName, top),
+                colorGuideRepository.findTaggedItems(user, tagName, top),
+                brandStrategyRepository.findTaggedItems(user, tagName, top)
+        );
+        List<AssetListItem> content = (offset >= merged.size())
+                ? List.of()
+                : merged.subList(offset, Math.min(offset + pageable.getPageSize(), merged.size()));
 
-        // 2. 3가지 목록을 합쳐서 최신순으로 정렬
-        List<AssetListItem> allAssets = Stream.concat(Stream.concat(logos.stream(), colors.stream()), brands.stream())
-                .sorted(Comparator.comparing(AssetListItem::createdAt).reversed())
-                .toList();
+        long total = logoRepository.countTagged(user, tagName)
+                + colorGuideRepository.countTagged(user, tagName)
+                + brandStrategyRepository.countTagged(user, tagName);
 
-        // 3. 페이징 처리 (메모리 상에서 자르기)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allAssets.size());
+        return new PageImpl<>(content, pageable, total);
+    }
 
-        // 페이지 범위를 벗어나면 빈 리스트 반환, 아니면 자른 리스트 반환
-        List<AssetListItem> pagedContent = (start > allAssets.size())
-                ? List.of()
-                : allAssets.subList(start, end);
+    /** 태그별 내 산출물 커서 조회: 종류별로 커서 이후 size+1건만 읽어 병합 (COUNT 없음) */
+    public CursorResponse<AssetListItem> listMyAssetsByTag(String tagName, String cursor, int size) {
+        User user = loginUserProvider.getLoginUserReference();
+        AssetCursor after = AssetCursor.decode(cursor);
+        int limit = FeedCursor.clampSize(size);
+        Pageable fetch = PageRequest.ofSize(limit + 1);
+
+        List<AssetListItem> merged = (after == null)
+                ? merge(
+                        logoRepository.findTaggedItems(user, tagName, fetch),
+                        colorGuideRepository.findTaggedItems(user, tagName, fetch),
+                        brandStrategyRepository.findTaggedItems(user, tagName, fetch))
+                : merge(
+                        logoRepository.findTaggedItemsAfter(user, tagName, after.createdAt(), after.boundIdFor(AssetType.LOGO), fetch),
+                        colorGuideRepository.findTaggedItemsAfter(user, tagName, after.createdAt(), after.boundIdFor(AssetType.COLOR_GUIDE), fetch),
+                        brandStrategyRepository.findTaggedItemsAfter(user, tagName, after.createdAt(), after.boundIdFor(AssetType.BRAND_STRATEGY), fetch));
+
+        boolean hasNext = merged.size() > limit;
+        List<AssetListItem> content = hasNext ? merged.subList(0, limit) : merged;
+        String next = null;
+        if (hasNext) {
+            AssetListItem last = content.get(content.size() - 1);
+            next = new AssetCursor(last.createdAt(), AssetType.valueOf(last.assetType()), last.id()).encode();
+        }
+        return new CursorResponse<>(content, limit, next, hasNext);
+    }
 
-        // 4. Page 인터페이스 구현체로 반환 (PageImpl이 totalPages, last 등을 계산해줌)
-        return new PageImpl<>(pagedContent, pageable, allAssets.size());
+    @SafeVarargs
+    private static List<AssetListItem> merge(List<AssetListItem>... sources) {
+        List<AssetListItem> all = new ArrayList<>();
+        for (List<AssetListItem> source : sources) all.addAll(source);
+        all.sort(ASSET_ORDER);
+        return all;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.example.logologolab.service.auth;
+
+import com.example.logologolab.security.TokenDigest;
+import com.example.logologolab.support.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 블랙리스트 식별자(jti 등)의 인스턴스 로컬 Bloom filter. 필터에는 식별자의 SHA-256을 넣는다.
+ * - 필터에 없으면(확정적 음성) Redis를 조회하지 않는다
+ * - 다른 인스턴스의 등록은 Redis pub/sub(CHANNEL)으로 전달받아 즉시 반영
+ * - pub/sub 유실에 대비해 주기적으로 Redis SCAN으로 새 필터를 만들어 교체
+ * 첫 빌드가 끝나기 전(ready=false)에는 모든 조회를 Redis로 보낸다.
+ */
+@Slf4j
+@Component
+public class BlacklistBloomFilter implements MessageListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+    public static final String KEY_PREFIX = "blacklist:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    /** 재빌드 중에 들어온 항목은 새 필터에도 넣어 교체 시 유실되지 않게 한다 */
+    private volatile BloomFilter rebuilding;
+    /** add와 필터 교체를 직렬화 (add가 옛 필터에만 들어가고 교체되는 경합 방지). 조회는 잠그지 않음 */
+    private final Object swapLock = new Object();
+    private volatile boolean ready;
+
+    public BlacklistBloomFilter(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("auth.blacklist.bloom.bits", this, f -> f.current.bitCount()).register(meterRegistry);
+        Gauge.builder("auth.blacklist.bloom.hash-functions", this, f -> f.current.hashFunctions()).register(meterRegistry);
+        Gauge.builder("auth.blacklist.bloom.insertions", this, f -> f.current.insertions()).register(meterRegistry);
+        Gauge.builder("auth.blacklist.bloom.expected-fpp", this, f -> f.current.expectedFalsePositiveRate()).register(meterRegistry);
+        Gauge.builder("auth.blacklist.bloom.ready", this, f -> f.ready ? 1 : 0).register(meterRegistry);
+    }
+
+    /** false면 확실히 블랙리스트가 아님. true면 Redis로 확인 필요 */
+    public boolean mightContain(String id) {
+        return !ready || current.mightContain(TokenDigest.sha256(id));
+    }
+
+    /** 로컬 반영 + 다른 인스턴스에 전파 */
+    public void addAndPublish(String id) {
+        add(TokenDigest.sha256(id));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id);
+        } catch (Exception e) {
+            // 다음 재빌드 때 반영됨
+            log.warn("블랙리스트 pub/sub 전파 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(TokenDigest.sha256(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialBuild() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.blacklist.bloom.rebuild-interval-ms:600000}",
+            initialDelayString = "${auth.blacklist.bloom.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        synchronized (swapLock) {
+            rebuilding = next;
+        }
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    next.add(TokenDigest.sha256(cursor.next().substring(KEY_PREFIX.length())));
+                }
+            }
+            // 이전 버전이 토큰 원문을 키로 저장한 항목 (만료되면 자연히 사라짐)
+            ScanOptions legacy = ScanOptions.scanOptions().match("eyJ*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(legacy)) {
+                while (cursor.hasNext()) {
+                    // jti 없는 토큰의 식별자 = 토큰 SHA-256 (LogoutService와 동일)
+                    next.add(TokenDigest.sha256(TokenDigest.sha256Encoded(cursor.next())));
+                }
+            }
+            synchronized (swapLock) {
+                current = next;
+                rebuilding = null;
+            }
+            ready = true;
+            if (next.insertions() > expectedInsertions) {
+                log.warn("블랙리스트 항목 수({})가 Bloom filter 예상치({})를 넘었습니다. 예상 오탐률={}",
+                        next.insertions(), expectedInsertions, next.expectedFalsePositiveRate());
+            }
+        } catch (Exception e) {
+            // 실패하면 기존 필터 유지 (첫 빌드 실패 시 ready=false → Redis 직접 조회)
+            log.warn("블랙리스트 Bloom filter 재빌드 실패", e);
+        } finally {
+            synchronized (swapLock) {
+                if (rebuilding == next) rebuilding = null;
+            }
+        }
+    }
+
+    private void add(byte[] digest) {
+        synchronized (swapLock) {
+            current.add(digest);
+            BloomFilter next = rebuilding;
+            if (next != null) next.add(digest);
+        }
+    }
+}
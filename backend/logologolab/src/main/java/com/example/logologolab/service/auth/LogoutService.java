@@ -1,22 +1,56 @@
 package com.example.logologolab.service.auth;
 
-import lombok.RequiredArgsConstructor;
+import com.example.logologolab.security.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * access token 블랙리스트. 키는 blacklist:{jti} (jti가 없는 이전 토큰은 토큰 SHA-256)
+ */
 @Service
-@RequiredArgsConstructor
 public class LogoutService {
     private final RedisTemplate<String, String> redisTemplate;
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final Counter filteredLookups;
+    private final Counter redisLookups;
+
+    public LogoutService(RedisTemplate<String, String> redisTemplate,
+                         BlacklistBloomFilter blacklistBloomFilter,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.blacklistBloomFilter = blacklistBloomFilter;
+        this.filteredLookups = Counter.builder("auth.blacklist.lookups").tag("source", "bloom").register(meterRegistry);
+        this.redisLookups = Counter.builder("auth.blacklist.lookups").tag("source", "redis").register(meterRegistry);
+    }
 
     //expirationMillis → JWT 만료시간 - 현재시간 → 토큰과 똑같이 만료되도록 TTL 설정
-    public void blacklistToken(String token, long expirationMillis) {
-        redisTemplate.opsForValue().set(token, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+    public void blacklistToken(String tokenId, String token, long expirationMillis) {
+        String id = blacklistId(tokenId, token);
+        redisTemplate.opsForValue().set(BlacklistBloomFilter.KEY_PREFIX + id, "1", expirationMillis, TimeUnit.MILLISECONDS);
+        blacklistBloomFilter.addAndPublish(id);
+    }
+
+    public boolean isBlacklisted(String tokenId, String token) {
+        String id = blacklistId(tokenId, token);
+        if (!blacklistBloomFilter.mightContain(id)) {
+            filteredLookups.increment();
+            return false;
+        }
+        redisLookups.increment();
+        if (tokenId != null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BlacklistBloomFilter.KEY_PREFIX + id));
+        }
+        // jti 없는 이전 토큰: 이전 형식(토큰 원문 키)도 만료 전까지 함께 확인
+        Long found = redisTemplate.countExistingKeys(List.of(BlacklistBloomFilter.KEY_PREFIX + id, token));
+        return found != null && found > 0;
     }
 
-    public boolean isBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(token));
+    private static String blacklistId(String tokenId, String token) {
+        return (tokenId != null) ? tokenId : TokenDigest.sha256Encoded(token);
     }
-}
\ No newline at end of file
+}
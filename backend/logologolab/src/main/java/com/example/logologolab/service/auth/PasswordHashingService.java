@@ -0,0 +1,112 @@
+package com.example.logologolab.service.auth;
+
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/검증 전용 실행기.
+ * - 스레드 수(기본: 코어 수의 절반)로 CPU 사용을 묶어 로그인 폭주가 다른 API를 굶기지 않게 한다
+ * - 큐가 가득 차거나 wait-timeout 안에 끝나지 않으면 503(AUTH_BUSY)으로 즉시 거절
+ * - auth.password.hash 타이머(op=hash|verify)로 실행 시간, auth.password.rejected로 거절 수 기록
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        int poolSize = (threads > 0) ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash").tag("op", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.hash").tag("op", "verify").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) return false;
+        return run(() -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /** 저장된 해시의 cost가 현재 설정보다 낮으면 true (로그인 성공 후 재해시) */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
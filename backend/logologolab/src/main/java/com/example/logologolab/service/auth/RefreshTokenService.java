@@ -1,39 +1,107 @@
 package com.example.logologolab.service.auth;
 
 import com.example.logologolab.domain.ProviderType;
+import com.example.logologolab.security.TokenDigest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 리프레시 세션 저장소.
+ * 사용자별 해시 refresh:sessions:{provider}:{email} 하나에 기기(세션)마다 필드를 둔다.
+ *   field = 토큰 jti, value = "{토큰 SHA-256}|{만료 epoch ms}"
+ * 토큰 원문은 저장하지 않으며, 전체 세션 폐기는 DEL 한 번이다.
+ * 이전 형식(refresh:{provider}:{email} = 토큰 원문)은 조회/삭제 시에만 함께 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private static final String PREFIX = "refresh:";
+    private static final String SESSIONS_PREFIX = "refresh:sessions:";
+
+    @Value("${auth.refresh.max-sessions:10}")
+    private int maxSessions;
 
     //    일관된 키 생성을 위해 private 헬퍼 메서드 사용
     private String createKey(String email, ProviderType provider) {
-        return "refresh:" + provider.name() + ":" + email;
+        return SESSIONS_PREFIX + provider.name() + ":" + email;
     }
 
-    // Redis에 저장
-    public void saveRefreshToken(String email, ProviderType provider, String token, long durationMillis) {
-        String key = createKey(email, provider);
-        redisTemplate.opsForValue().set(key, token, durationMillis, TimeUnit.MILLISECONDS);
+    private String legacyKey(String email, ProviderType provider) {
+        return PREFIX + provider.name() + ":" + email;
     }
 
-    // Redis에서 가져오기
-    public String getRefreshToken(String email, ProviderType provider) {
+    // 세션 추가 (같은 사용자의 다른 기기 세션은 유지)
+    public void saveRefreshToken(String email, ProviderType provider, String tokenId, String token, long durationMillis) {
         String key = createKey(email, provider);
-        return redisTemplate.opsForValue().get(key);
+        long expiresAt = System.currentTimeMillis() + durationMillis;
+
+        prune(key);
+        redisTemplate.opsForHash().put(key, tokenId, TokenDigest.sha256Encoded(token) + "|" + expiresAt);
+        // 해시 TTL은 가장 늦게 만료되는 세션 기준 (새 세션이 항상 가장 늦음)
+        redisTemplate.expire(key, durationMillis, TimeUnit.MILLISECONDS);
     }
 
-    // Redis에서 삭제
-    public void deleteRefreshToken(String email, ProviderType provider) {
-        String key = createKey(email, provider);
-        redisTemplate.delete(key);
+    // 저장된 세션과 일치하는지 확인
+    public boolean isValidRefreshToken(String email, ProviderType provider, String tokenId, String token) {
+        if (tokenId == null) {
+            String legacy = redisTemplate.opsForValue().get(legacyKey(email, provider));
+            return legacy != null && legacy.equals(token);
+        }
+        Object stored = redisTemplate.opsForHash().get(createKey(email, provider), tokenId);
+        if (stored == null) return false;
+
+        String[] parts = stored.toString().split("\\|");
+        if (parts.length != 2 || System.currentTimeMillis() >= Long.parseLong(parts[1])) return false;
+        return MessageDigest.isEqual(
+                parts[0].getBytes(StandardCharsets.US_ASCII),
+                TokenDigest.sha256Encoded(token).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 세션 하나 삭제 (로그아웃한 기기)
+    public void deleteRefreshToken(String email, ProviderType provider, String tokenId) {
+        if (tokenId == null) {
+            redisTemplate.delete(legacyKey(email, provider));
+            return;
+        }
+        redisTemplate.opsForHash().delete(createKey(email, provider), tokenId);
+    }
+
+    // 사용자의 모든 세션 폐기 (DEL 한 번)
+    public void revokeAllSessions(String email, ProviderType provider) {
+        redisTemplate.delete(List.of(createKey(email, provider), legacyKey(email, provider)));
+    }
+
+    // 만료된 세션 제거 + 세션 수가 max-sessions에 닿으면 가장 먼저 만료될 세션부터 정리
+    private void prune(String key) {
+        Map<Object, Object> sessions = redisTemplate.opsForHash().entries(key);
+        if (sessions.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        List<Object> removed = new ArrayList<>();
+        List<Map.Entry<Object, Long>> live = new ArrayList<>();
+        sessions.forEach((field, value) -> {
+            String[] parts = value.toString().split("\\|");
+            long expiresAt = (parts.length == 2) ? Long.parseLong(parts[1]) : 0;
+            if (now >= expiresAt) removed.add(field);
+            else live.add(Map.entry(field, expiresAt));
+        });
+
+        int overflow = live.size() - maxSessions + 1;
+        if (overflow > 0) {
+            live.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < overflow; i++) removed.add(live.get(i).getKey());
+        }
+        if (!removed.isEmpty()) redisTemplate.opsForHash().delete(key, removed.toArray());
     }
 }
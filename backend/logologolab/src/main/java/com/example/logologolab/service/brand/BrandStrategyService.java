@@ -6,9 +6,18 @@ import com.example.logologolab.repository.brand.BrandStrategyRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
 import com.example.logologolab.repository.user.UserRepository;
 import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.feed.CachedPage;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
 import com.example.logologolab.service.s3.S3UploadService;
+import com.example.logologolab.service.storage.DirectUploadService;
+import com.example.logologolab.service.tag.UserTagCache;
+import com.example.logologolab.support.FeedCursor;
+import com.example.logologolab.service.search.AssetSearchService;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.*;
@@ -26,19 +35,27 @@ public class BrandStrategyService {
     private final UserRepository userRepository;
     private final LoginUserProvider loginUserProvider;
     private final S3UploadService s3UploadService;
+    private final DirectUploadService directUploadService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
+
+    private static final TypeReference<CachedPage<BrandStrategyListItem>> CACHED_PAGE = new TypeReference<>() {};
+    private static final TypeReference<CursorResponse<BrandStrategyListItem>> CACHED_FEED = new TypeReference<>() {};
 
     @Transactional
     public BrandStrategyResponse save(BrandStrategyPersistRequest req, String createdByEmail, ProviderType createdByProvider) {
         if (req.markdown() == null || req.markdown().isBlank())
             throw new IllegalArgumentException("markdown is required");
 
-        User creator = userRepository.findByEmailAndProvider(createdByEmail, createdByProvider)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
+        User creator = loginUserProvider.findUser(createdByEmail, createdByProvider);
 
-        // 1. 이미지 처리 로직 추가 (Base64 -> S3 URL 변환)
+        // 1. 이미지 처리 로직 추가 (직접 업로드 키 커밋 / Base64 -> S3 URL 변환)
         String finalImageUrl = null;
-        if (req.imageUrl() != null && !req.imageUrl().isBlank()) {
+        if (req.imageKey() != null && !req.imageKey().isBlank()) {
+            finalImageUrl = directUploadService.commit(creator, req.imageKey());
+        } else if (req.imageUrl() != null && !req.imageUrl().isBlank()) {
             // 만약 "data:image"로 시작하는 Base64 문자열이라면 S3에 업로드
             if (req.imageUrl().startsWith("data:")) {
                 finalImageUrl = s3UploadService.uploadBase64AndGetUrl(req.imageUrl());
@@ -62,6 +79,8 @@ public class BrandStrategyService {
                 .build();
 
         e = repo.save(e);
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        assetSearchService.reindex(AssetType.BRAND_STRATEGY, e.getId());
 
         return BrandStrategyResponse.from(e);
     }
@@ -73,41 +92,40 @@ public class BrandStrategyService {
         return BrandStrategyResponse.from(e);
     }
 
-    // [Helper] 엔티티 -> 리스트 아이템 변환 (중복 제거)
-    private BrandStrategyListItem mapToListItem(BrandStrategy e) {
-        return new BrandStrategyListItem(
-                e.getId(),
-                e.getBriefKo(),
-                e.getStyle(),
-                e.getMarkdown(),
-                e.getCreatedAt()
-        );
-    }
-
     @Transactional(readOnly = true)
     public Page<BrandStrategyListItem> listMine(String email, ProviderType provider, Pageable pageable) {
         if (email == null || email.isBlank()) return Page.empty(pageable);
         User user = userRepository.findByEmailAndProvider(email, provider)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-        return repo.findByCreatedBy(user, pageable)
-                .map(e -> new BrandStrategyListItem(e.getId(), e.getBriefKo(), e.getStyle(), e.getMarkdown(), e.getCreatedAt()));
+        return repo.findItemsByCreatedBy(user, pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<BrandStrategyListItem> listPublic(Pageable pageable) {
-        return repo.findAll(pageable)
-                .map(e -> new BrandStrategyListItem(e.getId(), e.getBriefKo(), e.getStyle(), e.getMarkdown(), e.getCreatedAt()));
+        // 랜딩 갤러리 앞쪽 페이지는 공유 캐시에서 (저장/수정/삭제 시 무효화)
+        if (publicFeedCache.isCacheable(pageable)) {
+            return publicFeedCache.get(FeedType.BRAND_STRATEGY, PublicFeedCache.pageSlot(pageable), CACHED_PAGE,
+                    () -> CachedPage.of(repo.findItems(pageable))).toPage(pageable);
+        }
+        return repo.findItems(pageable);
     }
 
+    /** 공개 피드 (keyset 커서, COUNT 쿼리 없음) */
     @Transactional(readOnly = true)
-    public Page<BrandStrategyListItem> listByProject(Long projectId, Pageable pageable) {
-        if (projectId == null) {
-            return Page.empty(pageable);
+    public CursorResponse<BrandStrategyListItem> feedPublic(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(FeedCursor.clampSize(size));
+        if (after == null) {
+            return publicFeedCache.get(FeedType.BRAND_STRATEGY, PublicFeedCache.firstCursorSlot(limit.getPageSize()), CACHED_FEED,
+                    () -> CursorResponse.of(repo.findFeedItems(limit), i -> FeedCursor.of(i.createdAt(), i.id())));
         }
+        return CursorResponse.of(repo.findFeedItemsAfter(after.createdAt(), after.id(), limit), i -> FeedCursor.of(i.createdAt(), i.id()));
+    }
 
-        // Repository에서 만든 쿼리 메서드 호출
-        return repo.findByProjectId(projectId, pageable)
-                .map(this::mapToListItem); // 기존에 만들어둔 변환 메서드 재활용
+    @Transactional(readOnly = true)
+    public Page<BrandStrategyListItem> listByProject(Long projectId, Pageable pageable) {
+        if (projectId == null) return Page.empty(pageable);
+        return repo.findItemsByProjectId(projectId, pageable);
     }
 
     @Transactional
@@ -122,6 +140,9 @@ public class BrandStrategyService {
         // 3. 필드 업데이트 (Dirty Checking으로 DB에 반영됨)
         entity.updateMarkdown(req.markdown());
 
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        assetSearchService.reindex(AssetType.BRAND_STRATEGY, id);
+
         // 4. 수정된 결과를 DTO로 변환하여 반환
         return BrandStrategyResponse.from(entity);
     }
@@ -144,5 +165,8 @@ public class BrandStrategyService {
 
         // 2. 이제 삭제 (아무도 이 전략을 안 잡고 있으니 삭제됨)
         repo.delete(brandStrategy);
+        publicFeedCache.invalidate(FeedType.BRAND_STRATEGY);
+        userTagCache.evict(user.getId());
+        assetSearchService.remove(AssetType.BRAND_STRATEGY, id);
     }
 }
\ No newline at end of file
@@ -5,9 +5,18 @@ import com.example.logologolab.dto.color.*;
 import com.example.logologolab.repository.color.ColorGuideRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.service.feed.CachedPage;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
 import com.example.logologolab.service.s3.S3UploadService;
+import com.example.logologolab.service.storage.DirectUploadService;
+import com.example.logologolab.service.tag.UserTagCache;
+import com.example.logologolab.support.FeedCursor;
+import com.example.logologolab.service.search.AssetSearchService;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.*;
@@ -25,7 +34,14 @@ public class ColorGuideService {
     private final UserRepository userRepository;
     private final LoginUserProvider loginUserProvider;
     private final S3UploadService s3UploadService;
+    private final DirectUploadService directUploadService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
+
+    private static final TypeReference<CachedPage<ColorGuideListItem>> CACHED_PAGE = new TypeReference<>() {};
+    private static final TypeReference<CursorResponse<ColorGuideListItem>> CACHED_FEED = new TypeReference<>() {};
 
     private static String normHex(String hex) {
         if (hex == null) return null;
@@ -38,9 +54,13 @@ public class ColorGuideService {
     public ColorGuideResponse save(ColorGuidePersistRequest req, String createdByEmail, ProviderType createdByProvider) {
         if (req.guide() == null) throw new IllegalArgumentException("guide is required");
 
-        // 1. 이미지 처리 로직 추가 (Base64 -> S3 URL 변환)
+        User creator = loginUserProvider.findUser(createdByEmail, createdByProvider);
+
+        // 1. 이미지 처리 로직 추가 (직접 업로드 키 커밋 / Base64 -> S3 URL 변환)
         String finalImageUrl = null;
-        if (req.imageUrl() != null && !req.imageUrl().isBlank()) {
+        if (req.imageKey() != null && !req.imageKey().isBlank()) {
+            finalImageUrl = directUploadService.commit(creator, req.imageKey());
+        } else if (req.imageUrl() != null && !req.imageUrl().isBlank()) {
             if (req.imageUrl().startsWith("data:")) {
                 // Base64 문자열이면 S3 업로드 후 URL 획득
                 finalImageUrl = s3UploadService.uploadBase64AndGetUrl(req.imageUrl());
@@ -55,8 +75,6 @@ public class ColorGuideService {
         var caseType = (finalImageUrl != null) ? CaseType.WITH_LOGO : CaseType.WITHOUT_LOGO;
 
         var g = req.guide();
-        User creator = userRepository.findByEmailAndProvider(createdByEmail, createdByProvider)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
 
         ColorGuide e = ColorGuide.builder()
                 .briefKo(req.briefKo())
@@ -71,6 +89,8 @@ public class ColorGuideService {
                 .build();
 
         e = repo.save(e);
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        assetSearchService.reindex(AssetType.COLOR_GUIDE, e.getId());
 
         return ColorGuideResponse.from(e);
     }
@@ -82,45 +102,40 @@ public class ColorGuideService {
         return ColorGuideResponse.from(e);
     }
 
-    // [Helper] 엔티티를 ColorGuideListItem으로 변환하는 메서드 (중복 제거용)
-    private ColorGuideListItem mapToListItem(ColorGuide e) {
-        return new ColorGuideListItem(
-                e.getId(),
-                e.getBriefKo(),
-                e.getStyle(),
-                new ColorGuideDTO(
-                        new ColorGuideDTO.Role(e.getMainHex(), e.getMainDesc()),
-                        new ColorGuideDTO.Role(e.getSubHex(), e.getSubDesc()),
-                        new ColorGuideDTO.Role(e.getPointHex(), e.getPointDesc()),
-                        new ColorGuideDTO.Role(e.getBackgroundHex(), e.getBackgroundDesc())
-                ),
-                e.getCreatedAt()
-        );
-    }
-
     @Transactional(readOnly = true)
     public Page<ColorGuideListItem> listMine(String email, ProviderType provider, Pageable pageable) {
-        if (email == null || email.isBlank()) {
-            // 인증 필수라면 예외를 던지거나, 빈 페이지 반환 등 정책 결정
-            return Page.empty(pageable);
-        }
+        if (email == null || email.isBlank()) return Page.empty(pageable);
         User user = userRepository.findByEmailAndProvider(email, provider)
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-        return repo.findByCreatedBy(user, pageable)
-                .map(this::mapToListItem);
+        return repo.findItemsByCreatedBy(user, pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<ColorGuideListItem> listPublic(Pageable pageable) {
-        return repo.findAll(pageable)
-                .map(this::mapToListItem);
+        // 랜딩 갤러리 앞쪽 페이지는 공유 캐시에서 (저장/수정/삭제 시 무효화)
+        if (publicFeedCache.isCacheable(pageable)) {
+            return publicFeedCache.get(FeedType.COLOR_GUIDE, PublicFeedCache.pageSlot(pageable), CACHED_PAGE,
+                    () -> CachedPage.of(repo.findItems(pageable))).toPage(pageable);
+        }
+        return repo.findItems(pageable);
+    }
+
+    /** 공개 피드 (keyset 커서, COUNT 쿼리 없음) */
+    @Transactional(readOnly = true)
+    public CursorResponse<ColorGuideListItem> feedPublic(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(FeedCursor.clampSize(size));
+        if (after == null) {
+            return publicFeedCache.get(FeedType.COLOR_GUIDE, PublicFeedCache.firstCursorSlot(limit.getPageSize()), CACHED_FEED,
+                    () -> CursorResponse.of(repo.findFeedItems(limit), i -> FeedCursor.of(i.createdAt(), i.id())));
+        }
+        return CursorResponse.of(repo.findFeedItemsAfter(after.createdAt(), after.id(), limit), i -> FeedCursor.of(i.createdAt(), i.id()));
     }
 
     @Transactional(readOnly = true)
     public Page<ColorGuideListItem> listByProject(Long projectId, Pageable pageable) {
         if (projectId == null) return Page.empty(pageable);
-        return repo.findByProjectId(projectId, pageable)
-                .map(this::mapToListItem);
+        return repo.findItemsByProjectId(projectId, pageable);
     }
 
     @Transactional
@@ -141,6 +156,9 @@ public class ColorGuideService {
                 normHex(newGuide.background().hex()), newGuide.background().description()
         );
 
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        assetSearchService.reindex(AssetType.COLOR_GUIDE, id);
+
         // 4. 수정된 결과를 DTO로 변환하여 반환
         return ColorGuideResponse.from(entity);
     }
@@ -163,5 +181,8 @@ public class ColorGuideService {
 
         // 3. 이제 안전하게 삭제
         repo.delete(colorGuide);
+        publicFeedCache.invalidate(FeedType.COLOR_GUIDE);
+        userTagCache.evict(user.getId());
+        assetSearchService.remove(AssetType.COLOR_GUIDE, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.logologolab.service.feed;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/** Page는 그대로 직렬화할 수 없어 내용과 전체 개수만 캐시에 담는다 */
+public record CachedPage<T>(List<T> content, long totalElements) {
+
+    public static <T> CachedPage<T> of(Page<T> page) {
+        return new CachedPage<>(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<T> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.logologolab.service.feed;
+
+import com.example.logologolab.repository.brand.BrandStrategyRepository;
+import com.example.logologolab.repository.color.ColorGuideRepository;
+import com.example.logologolab.repository.feed.ExcerptSource;
+import com.example.logologolab.support.Excerpts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 목록 요약 컬럼(briefExcerpt, excerpt)이 비어 있는 기존 행을 채운다.
+ * 새로 저장/수정되는 행은 엔티티 콜백에서 계산되므로, 채울 행이 없으면 조회 한 번으로 끝난다.
+ * - id 순 keyset으로 원문 앞부분만 projection 조회 (엔티티/본문 전체를 읽지 않음)
+ * - 요약 컬럼만 batch UPDATE → @PreUpdate/@Version을 거치지 않아 updated_at, row_version이 바뀌지 않음
+ * - UPDATE 조건에 "요약이 비어 있음"을 두어, 그사이 저장된 행(콜백이 이미 채움)은 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "list-excerpt.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ListExcerptBackfillRunner implements ApplicationRunner {
+
+    private static final String COLOR_GUIDE_UPDATE_SQL =
+            "UPDATE color_guide SET brief_excerpt = :briefExcerpt WHERE id = :id AND brief_excerpt IS NULL";
+    private static final String BRAND_STRATEGY_UPDATE_SQL =
+            "UPDATE brand_strategy SET brief_excerpt = :briefExcerpt, excerpt = :excerpt " +
+            "WHERE id = :id AND (excerpt IS NULL OR brief_excerpt IS NULL)";
+
+    private final ColorGuideRepository colorGuideRepository;
+    private final BrandStrategyRepository brandStrategyRepository;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${list-excerpt.backfill.batch-size:200}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int colorGuides = backfill(colorGuideRepository::findExcerptSourcesAfter, COLOR_GUIDE_UPDATE_SQL);
+        int brandStrategies = backfill(brandStrategyRepository::findExcerptSourcesAfter, BRAND_STRATEGY_UPDATE_SQL);
+
+        if (colorGuides + brandStrategies > 0) {
+            log.info("목록 요약 컬럼 백필 완료: colorGuides={}, brandStrategies={}", colorGuides, brandStrategies);
+        }
+    }
+
+    /** 페이지마다 짧은 트랜잭션 하나: projection 조회 1회 + batch UPDATE 1회. 채운 행 수 반환 */
+    private int backfill(BiFunction<Long, Pageable, List<ExcerptSource>> loader, String updateSql) {
+        int filled = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<ExcerptSource> page = transactionTemplate.execute(tx -> {
+                List<ExcerptSource> sources = loader.apply(from, PageRequest.ofSize(batchSize));
+                if (!sources.isEmpty()) jdbc.batchUpdate(updateSql, toParams(sources));
+                return sources;
+            });
+            if (page == null || page.isEmpty()) return filled;
+            filled += page.size();
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private static SqlParameterSource[] toParams(List<ExcerptSource> sources) {
+        return sources.stream()
+                .map(s -> new MapSqlParameterSource()
+                        .addValue("id", s.getId())
+                        .addValue("briefExcerpt", Excerpts.of(s.getBriefKo(), Excerpts.BRIEF_MAX))
+                        .addValue("excerpt", Excerpts.ofMarkdown(s.getMarkdown(), Excerpts.MARKDOWN_MAX)))
+                .toArray(SqlParameterSource[]::new);
+    }
+}
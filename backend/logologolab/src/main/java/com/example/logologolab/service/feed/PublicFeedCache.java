@@ -0,0 +1,149 @@
+package com.example.logologolab.service.feed;
+
+import com.example.logologolab.config.datasource.DataSourceRoute;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 공개 갤러리 앞쪽 페이지 캐시 (Redis, 인스턴스 공유).
+ * - 키: feed:{type}:v{version}:{slot} — 저장/수정/삭제 시 버전 키를 INCR 해 한 번에 무효화
+ * - 무효화는 커밋 이후에 수행: 커밋 전 데이터를 읽은 요청이 이전 버전 키에 쓰더라도 다시 읽히지 않음
+ * - Redis 장애 시 캐시를 건너뛰고 DB 조회
+ */
+@Slf4j
+@Component
+public class PublicFeedCache {
+
+    public enum FeedType { LOGO, COLOR_GUIDE, BRAND_STRATEGY }
+
+    private static final String PREFIX = "feed:";
+    /** 응답 DTO 형식이 바뀌면 올려서 이전 형식으로 저장된 페이지를 읽지 않게 한다 */
+    private static final int SCHEMA = 2;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final int maxPages;
+    private final Duration ttl;
+
+    public PublicFeedCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${feed.cache.enabled:true}") boolean enabled,
+            @Value("${feed.cache.max-pages:3}") int maxPages,
+            @Value("${feed.cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 호출자의 읽기 전용 트랜잭션이 이미 복제본 연결을 잡았어도 onPrimary가 먹히도록 새 트랜잭션(새 연결)에서 읽는다
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.ttl = ttl;
+    }
+
+    /** 공개 목록 기본 정렬(최신순) */
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    /** 기본 정렬의 앞쪽 maxPages 페이지만 캐시 대상 */
+    public boolean isCacheable(Pageable pageable) {
+        return enabled
+                && pageable.isPaged()
+                && pageable.getPageNumber() < maxPages
+                && DEFAULT_SORT.equals(pageable.getSort());
+    }
+
+    public static String pageSlot(Pageable pageable) {
+        return "p" + pageable.getPageNumber() + ":s" + pageable.getPageSize();
+    }
+
+    /** 커서 피드의 첫 페이지 */
+    public static String firstCursorSlot(int size) {
+        return "c:s" + size;
+    }
+
+    public int maxPages() {
+        return maxPages;
+    }
+
+    public <T> T get(FeedType type, String slot, TypeReference<T> typeRef, Supplier<T> loader) {
+        if (!enabled) return loader.get();
+
+        String key;
+        try {
+            key = PREFIX + type.name().toLowerCase() + ":s" + SCHEMA + ":v" + version(type) + ":" + slot;
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) return objectMapper.readValue(cached, typeRef);
+        } catch (Exception e) {
+            log.warn("공개 피드 캐시 조회 실패 (DB로 대체): type={}, slot={}, cause={}", type, slot, e.toString());
+            return loader.get();
+        }
+
+        // 캐시에 넣을 값은 복제 지연 없이 primary에서 읽는다
+        T value = DataSourceRoute.onPrimary(() -> readOnlyTx.execute(tx -> loader.get()));
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("공개 피드 캐시 저장 실패: type={}, slot={}, cause={}", type, slot, e.toString());
+        }
+        return value;
+    }
+
+    /** 트랜잭션 안에서 호출되면 커밋 후, 아니면 즉시 버전을 올린다 */
+    public void invalidate(FeedType... types) {
+        if (!enabled) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(types);
+                }
+            });
+        } else {
+            bump(types);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(FeedType.values());
+    }
+
+    private void bump(FeedType... types) {
+        for (FeedType type : types) {
+            try {
+                redisTemplate.opsForValue().increment(versionKey(type));
+            } catch (RuntimeException e) {
+                // 버전을 못 올리면 TTL 만료까지 이전 페이지가 보일 수 있음
+                log.warn("공개 피드 캐시 무효화 실패: type={}, cause={}", type, e.toString());
+            }
+        }
+    }
+
+    private String version(FeedType type) {
+        String v = redisTemplate.opsForValue().get(versionKey(type));
+        return (v == null) ? "0" : v;
+    }
+
+    private static String versionKey(FeedType type) {
+        return PREFIX + type.name().toLowerCase() + ":ver";
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.logologolab.service.feed;
+
+import com.example.logologolab.service.brand.BrandStrategyService;
+import com.example.logologolab.service.color.ColorGuideService;
+import com.example.logologolab.service.logo.LogoService;
+import com.example.logologolab.support.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 공개 갤러리 앞쪽 페이지(기본 크기)를 미리 채운다.
+ * 이미 다른 인스턴스가 채운 페이지는 캐시 히트로 끝나므로 DB를 다시 읽지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicFeedCacheWarmer {
+
+    private final PublicFeedCache publicFeedCache;
+    private final LogoService logoService;
+    private final ColorGuideService colorGuideService;
+    private final BrandStrategyService brandStrategyService;
+
+    @Value("${feed.cache.warm-on-startup:true}")
+    private boolean warmOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (!warmOnStartup) return;
+        try {
+            for (int page = 0; page < publicFeedCache.maxPages(); page++) {
+                Pageable pageable = PageRequest.of(page, FeedCursor.DEFAULT_SIZE, PublicFeedCache.DEFAULT_SORT);
+                logoService.listPublicLogos(pageable);
+                colorGuideService.listPublic(pageable);
+                brandStrategyService.listPublic(pageable);
+            }
+            logoService.feedPublicLogos(null, FeedCursor.DEFAULT_SIZE);
+            colorGuideService.feedPublic(null, FeedCursor.DEFAULT_SIZE);
+            brandStrategyService.feedPublic(null, FeedCursor.DEFAULT_SIZE);
+            log.info("공개 피드 캐시 워밍 완료: pages={}", publicFeedCache.maxPages());
+        } catch (RuntimeException e) {
+            log.warn("공개 피드 캐시 워밍 실패 (요청 시 채워짐): {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.logologolab.service.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageOptimizationService {
+
+    private final List<ImageOptimizer> optimizers;
+
+    @Value("${image.optimize.enabled:true}")
+    private boolean enabled;
+
+    // 누적 통계 (인스턴스 단위)
+    private final AtomicLong totalOriginalBytes = new AtomicLong();
+    private final AtomicLong totalSavedBytes = new AtomicLong();
+
+    /**
+     * 지원하는 최적화기가 있으면 적용하고, 실패하거나 이득이 없으면 원본을 그대로 반환
+     */
+    public OptimizedImage optimize(byte[] bytes, String mime) {
+        if (!enabled || bytes == null || bytes.length == 0) {
+            return OptimizedImage.unchanged(bytes, mime);
+        }
+
+        for (ImageOptimizer optimizer : optimizers) {
+            if (!optimizer.supports(mime)) continue;
+            try {
+                OptimizedImage result = optimizer.optimize(bytes, mime);
+                record(result);
+                return result;
+            } catch (Exception e) {
+                // 최적화 실패는 저장을 막지 않는다
+                log.warn("이미지 최적화 실패, 원본으로 저장합니다. mime={}, size={}", mime, bytes.length, e);
+                return OptimizedImage.unchanged(bytes, mime);
+            }
+        }
+        return OptimizedImage.unchanged(bytes, mime);
+    }
+
+    public long getTotalOriginalBytes() { return totalOriginalBytes.get(); }
+    public long getTotalSavedBytes() { return totalSavedBytes.get(); }
+
+    private void record(OptimizedImage result) {
+        totalOriginalBytes.addAndGet(result.originalSize());
+        totalSavedBytes.addAndGet(result.savedBytes());
+        log.info("이미지 최적화: {} -> {} bytes ({} bytes 절감, 누적 {} bytes)",
+                result.originalSize(), result.bytes().length, result.savedBytes(), totalSavedBytes.get());
+    }
+}
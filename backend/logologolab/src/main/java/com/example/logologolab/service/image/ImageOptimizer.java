@@ -0,0 +1,13 @@
+package com.example.logologolab.service.image;
+
+/**
+ * 업로드 직전에 이미지 바이트를 가공하는 최적화 단계.
+ * 구현체는 무손실을 보장해야 하며, 결과가 원본보다 크면 원본을 그대로 돌려준다.
+ */
+public interface ImageOptimizer {
+
+    /** 이 최적화기가 처리할 수 있는 MIME 타입인지 */
+    boolean supports(String mime);
+
+    OptimizedImage optimize(byte[] bytes, String mime);
+}
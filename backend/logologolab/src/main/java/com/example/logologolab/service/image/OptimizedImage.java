@@ -0,0 +1,15 @@
+package com.example.logologolab.service.image;
+
+public record OptimizedImage(
+        byte[] bytes,
+        String mime,
+        long originalSize
+) {
+    public static OptimizedImage unchanged(byte[] bytes, String mime) {
+        return new OptimizedImage(bytes, mime, bytes.length);
+    }
+
+    public long savedBytes() {
+        return originalSize - bytes.length;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.logologolab.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PNG 무손실 재인코딩.
+ * - 최대 deflate 레벨 + 행 단위 적응형 필터(JDK PNG writer 기본 동작)로 다시 압축
+ * - 메타데이터 없이 새로 쓰므로 tEXt/iTXt/tIME 등 부가 청크가 제거됨
+ * - 색상 수가 256개 이하면 팔레트(PLTE + tRNS)로 축소 (픽셀 값은 그대로)
+ * - 16bit 채널이나 색 관리 청크(gAMA/cHRM/sRGB/iCCP)가 있는 PNG는 재인코딩 시 정보가 손실되므로 원본 유지
+ */
+@Component
+public class PngImageOptimizer implements ImageOptimizer {
+
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    /** JDK writer가 다시 쓰지 않는 색 관리 청크 */
+    private static final Set<String> COLOR_CHUNKS = Set.of("gAMA", "cHRM", "sRGB", "iCCP");
+    private static final int COLOR_TYPE_GRAY = 0;
+    private static final int COLOR_TYPE_GRAY_ALPHA = 4;
+
+    @Value("${image.optimize.png.palette-reduction:true}")
+    private boolean paletteReduction;
+
+    @Override
+    public boolean supports(String mime) {
+        return "image/png".equalsIgnoreCase(mime);
+    }
+
+    @Override
+    public OptimizedImage optimize(byte[] bytes, String mime) {
+        Header header = Header.parse(bytes);
+        if (header == null || !header.optimizable()) return OptimizedImage.unchanged(bytes, mime);
+
+        BufferedImage source = read(bytes);
+        if (source == null) return OptimizedImage.unchanged(bytes, mime);
+
+        byte[] best = encode(source);
+
+        // 그레이스케일은 getRGB 변환 과정에서 값이 바뀔 수 있어 팔레트 비교 대상에서 제외
+        if (paletteReduction && !header.grayscale()) {
+            BufferedImage indexed = toIndexed(source);
+            if (indexed != null) {
+                byte[] candidate = encode(indexed);
+                // 팔레트 변환 결과가 원본 픽셀과 동일할 때만 채택
+                if (candidate.length < best.length && samePixels(source, read(candidate))) {
+                    best = candidate;
+                }
+            }
+        }
+
+        if (best.length >= bytes.length) return OptimizedImage.unchanged(bytes, mime);
+        return new OptimizedImage(best, "image/png", bytes.length);
+    }
+
+    /* ================= helpers ================= */
+
+    /**
+     * IHDR과 IDAT 이전 청크만 훑어 본 PNG 헤더 정보
+     * @param bitDepth IHDR 채널당 비트 수
+     * @param colorType IHDR 컬러 타입
+     * @param colorManaged 색 관리 청크 존재 여부
+     */
+    record Header(int bitDepth, int colorType, boolean colorManaged) {
+
+        boolean optimizable() {
+            return bitDepth <= 8 && !colorManaged;
+        }
+
+        boolean grayscale() {
+            return colorType == COLOR_TYPE_GRAY || colorType == COLOR_TYPE_GRAY_ALPHA;
+        }
+
+        /** PNG가 아니거나 청크 구조가 깨져 있으면 null */
+        static Header parse(byte[] bytes) {
+            if (bytes == null || bytes.length < SIGNATURE.length + 8 + 13) return null;
+            for (int i = 0; i < SIGNATURE.length; i++) {
+                if (bytes[i] != SIGNATURE[i]) return null;
+            }
+
+            int bitDepth = -1;
+            int colorType = -1;
+            boolean colorManaged = false;
+            int pos = SIGNATURE.length;
+            while (pos + 8 <= bytes.length) {
+                long length = readInt(bytes, pos) & 0xFFFFFFFFL;
+                String type = new String(bytes, pos + 4, 4, StandardCharsets.US_ASCII);
+                int data = pos + 8;
+                if (data + length > bytes.length) return null;
+
+                if ("IHDR".equals(type)) {
+                    if (length < 13) return null;
+                    bitDepth = bytes[data + 8] & 0xFF;
+                    colorType = bytes[data + 9] & 0xFF;
+                } else if (COLOR_CHUNKS.contains(type)) {
+                    colorManaged = true;
+                } else if ("IDAT".equals(type) || "IEND".equals(type)) {
+                    break; // 색 관리 청크는 IDAT 앞에만 올 수 있음
+                }
+                pos = data + (int) length + 4; // + CRC
+            }
+            return bitDepth < 0 ? null : new Header(bitDepth, colorType, colorManaged);
+        }
+
+        private static int readInt(byte[] b, int off) {
+            return ((b[off] & 0xFF) << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8) | (b[off + 3] & 0xFF);
+        }
+    }
+
+    private BufferedImage read(byte[] bytes) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encode(BufferedImage image) {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+        if (!writers.hasNext()) throw new IllegalStateException("PNG writer를 찾을 수 없습니다.");
+        ImageWriter writer = writers.next();
+
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            String[] types = param.getCompressionTypes();
+            if (types != null && types.length > 0) param.setCompressionType(types[0]);
+            param.setCompressionQuality(0.0f); // 0.0 = 최대 압축
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /** 8bit 이하 채널이고 색상이 256개 이하일 때만 인덱스 이미지로 변환, 아니면 null */
+    private BufferedImage toIndexed(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_BYTE_INDEXED || src.getType() == BufferedImage.TYPE_BYTE_BINARY) return null;
+        for (int size : src.getColorModel().getComponentSize()) {
+            if (size > 8) return null; // 16bit PNG는 팔레트로 표현 불가
+        }
+
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int[] argb = src.getRGB(0, 0, w, h, null, 0, w);
+
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int px : argb) {
+            if (!index.containsKey(px)) {
+                if (index.size() == MAX_PALETTE_SIZE) return null;
+                index.put(px, index.size());
+            }
+        }
+
+        int n = index.size();
+        byte[] r = new byte[n], g = new byte[n], b = new byte[n], a = new byte[n];
+        index.forEach((px, i) -> {
+            a[i] = (byte) (px >>> 24);
+            r[i] = (byte) (px >>> 16);
+            g[i] = (byte) (px >>> 8);
+            b[i] = (byte) (int) px;
+        });
+
+        IndexColorModel cm = new IndexColorModel(8, n, r, g, b, a);
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_BYTE_INDEXED, cm);
+        byte[] pixels = new byte[w * h];
+        for (int i = 0; i < argb.length; i++) {
+            pixels[i] = (byte) (int) index.get(argb[i]);
+        }
+        dst.getRaster().setDataElements(0, 0, w, h, pixels);
+        return dst;
+    }
+
+    private boolean samePixels(BufferedImage a, BufferedImage b) {
+        if (b == null || a.getWidth() != b.getWidth() || a.getHeight() != b.getHeight()) return false;
+        int w = a.getWidth();
+        int h = a.getHeight();
+        int[] pa = a.getRGB(0, 0, w, h, null, 0, w);
+        int[] pb = b.getRGB(0, 0, w, h, null, 0, w);
+        for (int i = 0; i < pa.length; i++) {
+            // 완전 투명 픽셀은 RGB 값이 달라도 동일하게 취급
+            if (pa[i] != pb[i] && ((pa[i] >>> 24) != 0 || (pb[i] >>> 24) != 0)) return false;
+        }
+        return true;
+    }
+}
@@ -3,10 +3,15 @@ package com.example.logologolab.service.logo;
 import com.example.logologolab.domain.Logo;
 import com.example.logologolab.domain.User;
 import com.example.logologolab.repository.logo.LogoRepository;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
 import com.example.logologolab.service.flux.FluxGenerateService;
 import com.example.logologolab.service.gpt.GptPromptService;
 import com.example.logologolab.service.gpt.GptPromptService.PromptBundle;
 import com.example.logologolab.service.s3.S3UploadService;
+import com.example.logologolab.service.storage.DirectUploadService;
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.service.search.AssetSearchService;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
@@ -22,6 +27,9 @@ public class LogoGenerationService {
     private final GptPromptService gptPromptService;
     private final S3UploadService s3UploadService;
     private final LogoRepository logoRepository;
+    private final DirectUploadService directUploadService;
+    private final PublicFeedCache publicFeedCache;
+    private final AssetSearchService assetSearchService;
 
     public List<String> generateLogo(
             String userPromptKo,
@@ -71,7 +79,25 @@ public class LogoGenerationService {
                         .createdBy(user)
                         .build()
         );
+        publicFeedCache.invalidate(FeedType.LOGO);
+        assetSearchService.reindex(AssetType.LOGO, saved.getId());
         log.info("Saved logo id={}, url={}", saved.getId(), url);
         return url;
     }
+
+    /** 직접 업로드된 객체 검증 + DB 저장 */
+    public String commitUploadedLogo(User user, String prompt, String imageKey) {
+        String url = directUploadService.commit(user, imageKey);
+        Logo saved = logoRepository.save(
+                Logo.builder()
+                        .prompt(prompt)
+                        .imageUrl(url)
+                        .createdBy(user)
+                        .build()
+        );
+        publicFeedCache.invalidate(FeedType.LOGO);
+        assetSearchService.reindex(AssetType.LOGO, saved.getId());
+        log.info("Committed uploaded logo id={}, url={}", saved.getId(), url);
+        return url;
+    }
 }
@@ -5,12 +5,22 @@ import com.example.logologolab.domain.Project;
 import com.example.logologolab.domain.User;
 import com.example.logologolab.repository.project.ProjectRepository;
 import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.dto.common.CursorResponse;
 import com.example.logologolab.dto.logo.LogoListItem;
 import com.example.logologolab.dto.logo.LogoResponse;
 import com.example.logologolab.repository.logo.LogoRepository;
-import com.example.logologolab.service.s3.S3UploadService;
+import com.example.logologolab.service.feed.CachedPage;
+import com.example.logologolab.service.feed.PublicFeedCache;
+import com.example.logologolab.service.feed.PublicFeedCache.FeedType;
+import com.example.logologolab.service.s3.S3DeletionOutboxService;
+import com.example.logologolab.service.tag.UserTagCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.example.logologolab.support.FeedCursor;
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.service.search.AssetSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,8 +35,14 @@ public class LogoService {
 
     private final LogoRepository logoRepository;
     private final LoginUserProvider loginUserProvider;
-    private final S3UploadService s3UploadService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final ProjectRepository projectRepository;
+    private final PublicFeedCache publicFeedCache;
+    private final UserTagCache userTagCache;
+    private final AssetSearchService assetSearchService;
+
+    private static final TypeReference<CachedPage<LogoListItem>> CACHED_PAGE = new TypeReference<>() {};
+    private static final TypeReference<CursorResponse<LogoListItem>> CACHED_FEED = new TypeReference<>() {};
 
     public LogoResponse getLogo(Long id) {
         Logo logo = logoRepository.findById(id)
@@ -36,23 +52,32 @@ public class LogoService {
 
     public Page<LogoListItem> listMyLogos(Pageable pageable) {
         User user = loginUserProvider.getLoginUser();
-        return logoRepository.findByCreatedBy(user, pageable)
-                .map(logo -> new LogoListItem(logo.getId(), logo.getPrompt(), logo.getImageUrl(), logo.getCreatedAt()));
+        return logoRepository.findItemsByCreatedBy(user, pageable);
     }
 
     public Page<LogoListItem> listPublicLogos(Pageable pageable) {
-        return logoRepository.findAll(pageable)
-                .map(logo -> new LogoListItem(logo.getId(), logo.getPrompt(), logo.getImageUrl(), logo.getCreatedAt()));
+        // 랜딩 갤러리 앞쪽 페이지는 공유 캐시에서 (저장/삭제 시 무효화)
+        if (publicFeedCache.isCacheable(pageable)) {
+            return publicFeedCache.get(FeedType.LOGO, PublicFeedCache.pageSlot(pageable), CACHED_PAGE,
+                    () -> CachedPage.of(logoRepository.findItems(pageable))).toPage(pageable);
+        }
+        return logoRepository.findItems(pageable);
     }
 
-    public Page<LogoListItem> listByProject(Long projectId, Pageable pageable) {
-        if (projectId == null) return Page.empty(pageable);
-        return logoRepository.findByProjectId(projectId, pageable)
-                .map(this::mapToListItem);
+    /** 공개 피드 (keyset 커서, COUNT 쿼리 없음) */
+    public CursorResponse<LogoListItem> feedPublicLogos(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(FeedCursor.clampSize(size));
+        if (after == null) {
+            return publicFeedCache.get(FeedType.LOGO, PublicFeedCache.firstCursorSlot(limit.getPageSize()), CACHED_FEED,
+                    () -> CursorResponse.of(logoRepository.findFeedItems(limit), i -> FeedCursor.of(i.createdAt(), i.id())));
+        }
+        return CursorResponse.of(logoRepository.findFeedItemsAfter(after.createdAt(), after.id(), limit), i -> FeedCursor.of(i.createdAt(), i.id()));
     }
 
-    private LogoListItem mapToListItem(Logo logo) {
-        return new LogoListItem(logo.getId(), logo.getPrompt(), logo.getImageUrl(), logo.getCreatedAt());
+    public Page<LogoListItem> listByProject(Long projectId, Pageable pageable) {
+        if (projectId == null) return Page.empty(pageable);
+        return logoRepository.findItemsByProjectId(projectId, pageable);
     }
 
     @Transactional
@@ -61,8 +86,8 @@ public class LogoService {
         Logo logo = logoRepository.findByIdAndCreatedBy(id, user)
                 .orElseThrow(() -> new NoSuchElementException("삭제할 로고를 찾을 수 없거나 권한이 없습니다."));
 
-        // 1. S3 이미지 삭제
-        s3UploadService.deleteObjectByUrl(logo.getImageUrl());
+        // 1. S3 이미지 삭제 예약 (커밋 후 워커가 일괄 삭제)
+        s3DeletionOutboxService.enqueue(logo.getImageUrl());
 
         // 2. 이 로고를 담고 있는 모든 프로젝트를 찾음
         List<Project> projects = projectRepository.findAllByLogoId(id);
@@ -74,5 +99,8 @@ public class LogoService {
 
         // 4. DB 삭제
         logoRepository.delete(logo);
+        publicFeedCache.invalidate(FeedType.LOGO);
+        userTagCache.evict(user.getId());
+        assetSearchService.remove(AssetType.LOGO, id);
     }
 }
\ No newline at end of file
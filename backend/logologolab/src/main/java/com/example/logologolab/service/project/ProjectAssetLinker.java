@@ -0,0 +1,141 @@
+package com.example.logologolab.service.project;
+
+import com.example.logologolab.dto.project.ProjectRequest;
+import com.example.logologolab.repository.brand.BrandStrategyRepository;
+import com.example.logologolab.repository.color.ColorGuideRepository;
+import com.example.logologolab.repository.logo.LogoRepository;
+import com.example.logologolab.repository.project.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 프로젝트-자산 연결 증분 갱신.
+ * - 기존 조인 row와 요청 ID를 비교해 추가분만 batch insert, 제거분만 bulk delete
+ * - 소유권(또는 존재) 검증은 자산 타입별 ID 전용 쿼리 1회
+ * - Project 컬렉션은 건드리지 않으므로 Hibernate의 전체 삭제 후 재삽입이 발생하지 않음
+ * - 결과 ID 묶음을 그대로 반환 → 호출 측에서 재조회 없이 응답 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectAssetLinker {
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ProjectRepository projectRepository;
+    private final LogoRepository logoRepository;
+    private final ColorGuideRepository colorGuideRepository;
+    private final BrandStrategyRepository brandStrategyRepository;
+
+    private enum LinkTable {
+        LOGO("project_logo", "logo_id"),
+        COLOR_GUIDE("project_color_guide", "color_guide_id"),
+        BRAND_STRATEGY("project_brand_strategy", "brand_strategy_id");
+
+        final String insertSql;
+        final String deleteSql;
+
+        LinkTable(String table, String column) {
+            this.insertSql = "INSERT INTO " + table + " (project_id, " + column + ") VALUES (:projectId, :assetId)";
+            this.deleteSql = "DELETE FROM " + table + " WHERE project_id = :projectId AND " + column + " IN (:assetIds)";
+        }
+    }
+
+    /**
+     * 요청한 자산 ID로 프로젝트 연결을 맞춘다.
+     * @param ownerId 소유자 ID (null이면 관리자: 존재 여부만 검증)
+     * @return 갱신 후 연결 상태
+     */
+    @Transactional
+    public ProjectAssetLinks sync(Long projectId, ProjectRequest req, Long ownerId) {
+        ProjectAssetLinks current = ProjectAssetLinks.load(projectRepository, List.of(projectId));
+
+        List<Long> logoIds = apply(LinkTable.LOGO, projectId,
+                current.logoIds().getOrDefault(projectId, List.of()),
+                allowed(req.getLogoIds(), ownerId, logoRepository::findExistingIds,
+                        ids -> logoRepository.findIdsOwnedBy(ids, ownerId)));
+        List<Long> colorGuideIds = apply(LinkTable.COLOR_GUIDE, projectId,
+                current.colorGuideIds().getOrDefault(projectId, List.of()),
+                allowed(req.getColorGuideIds(), ownerId, colorGuideRepository::findExistingIds,
+                        ids -> colorGuideRepository.findIdsOwnedBy(ids, ownerId)));
+        List<Long> brandStrategyIds = apply(LinkTable.BRAND_STRATEGY, projectId,
+                current.brandStrategyIds().getOrDefault(projectId, List.of()),
+                allowed(req.getBrandStrategyIds(), ownerId, brandStrategyRepository::findExistingIds,
+                        ids -> brandStrategyRepository.findIdsOwnedBy(ids, ownerId)));
+
+        return new ProjectAssetLinks(
+                Map.of(projectId, logoIds),
+                Map.of(projectId, colorGuideIds),
+                Map.of(projectId, brandStrategyIds)
+        );
+    }
+
+    /** 요청 ID 중 연결 가능한 ID (타입별 ID 전용 쿼리 1회, 요청이 비어 있으면 쿼리 없음) */
+    private Set<Long> allowed(List<Long> requested,
+                              Long ownerId,
+                              Function<Collection<Long>, List<Long>> existing,
+                              Function<Collection<Long>, List<Long>> owned) {
+        if (requested == null || requested.isEmpty()) return Set.of();
+        Set<Long> ids = new HashSet<>(requested);
+        ids.remove(null);
+        if (ids.isEmpty()) return Set.of();
+        return new HashSet<>(ownerId == null ? existing.apply(ids) : owned.apply(ids));
+    }
+
+    /**
+     * 현재 연결과 목표 연결의 차이
+     * @param toAdd 새로 연결할 ID (오름차순)
+     * @param toRemove 연결을 끊을 ID (오름차순)
+     * @param result 갱신 후 연결 ID (오름차순)
+     */
+    record LinkDiff(List<Long> toAdd, List<Long> toRemove, List<Long> result) {
+
+        static LinkDiff of(Collection<Long> current, Set<Long> target) {
+            Set<Long> existing = new HashSet<>(current);
+            return new LinkDiff(
+                    target.stream().filter(id -> !existing.contains(id)).sorted().toList(),
+                    existing.stream().filter(id -> !target.contains(id)).sorted().toList(),
+                    target.stream().sorted().toList()
+            );
+        }
+
+        boolean isEmpty() {
+            return toAdd.isEmpty() && toRemove.isEmpty();
+        }
+    }
+
+    /** 현재 연결과 목표 연결의 차집합만 반영하고, 목표 ID를 정렬해 반환 */
+    private List<Long> apply(LinkTable table, Long projectId, List<Long> current, Set<Long> target) {
+        LinkDiff diff = LinkDiff.of(current, target);
+        List<Long> toAdd = diff.toAdd();
+        List<Long> toRemove = diff.toRemove();
+
+        if (!toRemove.isEmpty()) {
+            jdbc.update(table.deleteSql, new MapSqlParameterSource()
+                    .addValue("projectId", projectId)
+                    .addValue("assetIds", toRemove));
+        }
+        if (!toAdd.isEmpty()) {
+            SqlParameterSource[] batch = toAdd.stream()
+                    .map(id -> new MapSqlParameterSource()
+                            .addValue("projectId", projectId)
+                            .addValue("assetId", id))
+                    .toArray(SqlParameterSource[]::new);
+            jdbc.batchUpdate(table.insertSql, batch);
+        }
+
+        if (!diff.isEmpty()) {
+            log.debug("[PROJECT-LINK] project={} {} +{} -{}", projectId, table, toAdd.size(), toRemove.size());
+        }
+        return diff.result();
+    }
+}
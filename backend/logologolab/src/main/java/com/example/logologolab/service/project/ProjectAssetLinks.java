@@ -0,0 +1,61 @@
+package com.example.logologolab.service.project;
+
+import com.example.logologolab.domain.Project;
+import com.example.logologolab.dto.project.ProjectResponse;
+import com.example.logologolab.repository.project.ProjectAssetLink;
+import com.example.logologolab.repository.project.ProjectRepository;
+
+import org.springframework.data.domain.Page;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 목록 응답용 자산 ID 묶음.
+ * - 페이지에 포함된 프로젝트 ID로 조인 테이블 3개만 조회 (자산 엔티티 로딩 없음)
+ * - 프로젝트 컬렉션(logos 등)을 초기화하지 않으므로 배치 페치도 발생하지 않음
+ */
+public record ProjectAssetLinks(
+        Map<Long, List<Long>> logoIds,
+        Map<Long, List<Long>> colorGuideIds,
+        Map<Long, List<Long>> brandStrategyIds
+) {
+
+    public static ProjectAssetLinks load(ProjectRepository repo, Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return new ProjectAssetLinks(Map.of(), Map.of(), Map.of());
+        }
+        return new ProjectAssetLinks(
+                group(repo.findLogoLinks(projectIds)),
+                group(repo.findColorGuideLinks(projectIds)),
+                group(repo.findBrandStrategyLinks(projectIds))
+        );
+    }
+
+    /** 프로젝트 페이지를 응답 페이지로 변환 (쿼리 3회 고정) */
+    public static Page<ProjectResponse> toResponses(ProjectRepository repo, Page<Project> page) {
+        List<Long> ids = page.getContent().stream().map(Project::getId).toList();
+        ProjectAssetLinks links = load(repo, ids);
+        return page.map(links::toResponse);
+    }
+
+    /** 단건(상세) 응답: 프로젝트 1건 + 조인 테이블 3회 조회, 자산 수에 선형 */
+    public static ProjectResponse toResponse(ProjectRepository repo, Project p) {
+        return load(repo, List.of(p.getId())).toResponse(p);
+    }
+
+    public ProjectResponse toResponse(Project p) {
+        return ProjectResponse.ofIds(
+                p,
+                logoIds.getOrDefault(p.getId(), List.of()),
+                brandStrategyIds.getOrDefault(p.getId(), List.of()),
+                colorGuideIds.getOrDefault(p.getId(), List.of())
+        );
+    }
+
+    private static Map<Long, List<Long>> group(List<ProjectAssetLink> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                ProjectAssetLink::getProjectId,
+                Collectors.mapping(ProjectAssetLink::getAssetId, Collectors.toList())));
+    }
+}
@@ -3,9 +3,6 @@ package com.example.logologolab.service.project;
 import com.example.logologolab.domain.*;
 import com.example.logologolab.dto.project.ProjectRequest;
 import com.example.logologolab.dto.project.ProjectResponse;
-import com.example.logologolab.repository.brand.BrandStrategyRepository;
-import com.example.logologolab.repository.color.ColorGuideRepository;
-import com.example.logologolab.repository.logo.LogoRepository;
 import com.example.logologolab.repository.project.ProjectRepository;
 import com.example.logologolab.security.LoginUserProvider;
 
@@ -15,8 +12,6 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -24,9 +19,7 @@ import java.util.NoSuchElementException;
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final LoginUserProvider loginUserProvider;
-    private final BrandStrategyRepository brandStrategyRepository;
-    private final ColorGuideRepository colorGuideRepository;
-    private final LogoRepository logoRepository;
+    private final ProjectAssetLinker projectAssetLinker;
     private final jakarta.persistence.EntityManager em;
 
     @Transactional
@@ -34,22 +27,12 @@ public class ProjectService {
         User user = loginUserProvider.getLoginUser();
 
         Project project = Project.builder().name(req.getName()).user(user).build();
-        projectRepository.save(project); // ID 생성
+        projectRepository.saveAndFlush(project); // 조인 row(JDBC) insert 전에 프로젝트 row를 먼저 반영
 
-        linkAssetsToProject(project.getId(), req, user); // 연결
+        // 연결 (내 자산만, 추가분 batch insert) → 결과 ID로 바로 응답 (재조회 없음)
+        ProjectAssetLinks links = linkAssetsToProject(project.getId(), req, user);
 
-        em.flush(); // DB 반영
-        em.clear(); // 영속성 컨텍스트 초기화 (중요: 깔끔하게 다시 조회하기 위함)
-
-        Project saved = projectRepository.findWithAssets(project.getId(), user).orElseThrow();
-
-        // 이제 별도로 repo.findByProjectId 할 필요 없이 saved에서 바로 꺼냄
-        return ProjectResponse.of(
-                saved,
-                new ArrayList<>(saved.getBrandStrategies()),
-                new ArrayList<>(saved.getColorGuides()),
-                new ArrayList<>(saved.getLogos())
-        );
+        return links.toResponse(project);
     }
 
     @Transactional
@@ -63,23 +46,14 @@ public class ProjectService {
         // 2. 이름 수정
         project.setName(req.getName());
 
-        // 3. 연결 자산 수정 (기존 것 비우고 새로 채움)
-        linkAssetsToProject(projectId, req, user);
+        // 3. 연결 자산 수정 (기존 연결과의 차이만 반영)
+        ProjectAssetLinks links = linkAssetsToProject(projectId, req, user);
 
-        // 4. DB 반영 및 초기화 (중요: 1차 캐시 갱신)
+        // 4. 이름 변경 반영 (updatedAt 갱신, 이름 중복 제약 위반은 여기서 발생)
         em.flush();
-        em.clear();
-
-        // 5. 재조회 (업데이트된 관계 데이터를 가져오기 위해 findWithAssets 사용)
-        Project updated = projectRepository.findWithAssets(projectId, user).orElseThrow();
-
-        // 6. 엔티티 내부의 컬렉션을 사용하여 응답 생성
-        return ProjectResponse.of(
-                updated,
-                new ArrayList<>(updated.getBrandStrategies()),
-                new ArrayList<>(updated.getColorGuides()),
-                new ArrayList<>(updated.getLogos())
-        );
+
+        // 5. 알고 있는 ID 묶음으로 응답 생성 (재조회 없음)
+        return links.toResponse(project);
     }
 
     @Transactional
@@ -101,94 +75,27 @@ public class ProjectService {
     public ProjectResponse getProject(Long projectId) {
         User user = loginUserProvider.getLoginUser();
 
-        // 페치 조인이 적용된 메서드로 한 번에 조회
-        Project p = projectRepository.findWithAssets(projectId, user)
+        // 프로젝트 row 조회 후, 자산 ID는 컬렉션별 한 쿼리씩 (행 수 = 프로젝트 1 + 자산 수 합)
+        Project p = projectRepository.findByIdAndUser(projectId, user)
                 .orElseThrow(() -> new NoSuchElementException("프로젝트를 찾을 수 없거나 접근 권한이 없습니다."));
 
-        return ProjectResponse.of(
-                p,
-                new ArrayList<>(p.getBrandStrategies()),
-                new ArrayList<>(p.getColorGuides()),
-                new ArrayList<>(p.getLogos())
-        );
+        return ProjectAssetLinks.toResponse(projectRepository, p);
     }
 
     @Transactional
-    public void linkAssetsToProject(Long projectId, ProjectRequest req, User user) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new NoSuchElementException("Project not found"));
-
-        // 1. 기존 연결 초기화 (Set을 비움)
-        // N:M 관계이므로 자산 자체가 삭제되는 것이 아니라 '연결'만 끊김
-        project.getBrandStrategies().clear();
-        project.getColorGuides().clear();
-        project.getLogos().clear();
-
-        // 2. 요청된 ID로 자산 조회 및 연결
-        List<Long> bsIds = req.getBrandStrategyIds();
-        if (bsIds != null && !bsIds.isEmpty()) {
-            List<BrandStrategy> strategies = brandStrategyRepository.findAllById(bsIds);
-            for (BrandStrategy bs : strategies) {
-                // 내 자산인지 확인 (보안)
-                if (isOwner(bs.getCreatedBy(), user)) {
-                    project.getBrandStrategies().add(bs);
-                }
-            }
-        }
-
-        List<Long> cgIds = req.getColorGuideIds();
-        if (cgIds != null && !cgIds.isEmpty()) {
-            List<ColorGuide> guides = colorGuideRepository.findAllById(cgIds);
-            for (ColorGuide cg : guides) {
-                if (isOwner(cg.getCreatedBy(), user)) {
-                    project.getColorGuides().add(cg);
-                }
-            }
-        }
-
-        List<Long> lgIds = req.getLogoIds();
-        if (lgIds != null && !lgIds.isEmpty()) {
-            List<Logo> logos = logoRepository.findAllById(lgIds);
-            for (Logo lg : logos) {
-                if (isOwner(lg.getCreatedBy(), user)) {
-                    project.getLogos().add(lg);
-                }
-            }
-        }
-
-        // JPA 변경 감지(Dirty Checking)에 의해 project_brand_strategy 등
-        // 중간 테이블에 데이터가 자동으로 insert/delete 됩니다.
-    }
-
-    private boolean isOwner(User createdBy, User user) {
-        return createdBy != null
-                && user != null
-                && createdBy.getId() != null
-                && createdBy.getId().equals(user.getId());
-    }
-
-    private void logLink(String type, Long id, boolean ok, User owner, User user) {
-        Long ownerId = owner == null ? null : owner.getId();
-        Long userId  = user  == null ? null : user.getId();
-        System.out.printf("[LINK-%s] id=%d ownerId=%s userId=%s -> %s%n",
-                type, id, ownerId, userId, ok ? "LINKED" : "SKIPPED");
+    public ProjectAssetLinks linkAssetsToProject(Long projectId, ProjectRequest req, User user) {
+        // 내 자산인지 확인 (보안): 타입별 ID 전용 쿼리로 소유한 ID만 남김
+        return projectAssetLinker.sync(projectId, req, user.getId());
     }
 
     @Transactional(readOnly = true)
     public Page<ProjectResponse> listMyProjects(Pageable pageable) {
         User user = loginUserProvider.getLoginUser();
 
-        // 1. 내 프로젝트 페이징 조회
-        // N+1 문제 방지를 위해 hibernate.default_batch_fetch_size 설정이 application.yml에 되어 있어야 효율적입니다.
+        // 1. 내 프로젝트 페이징 조회 (프로젝트 row만)
         Page<Project> projectPage = projectRepository.findByUser(user, pageable);
 
-        // 2. 엔티티 -> DTO 변환
-        // Set을 List로 변환하여 DTO에 전달
-        return projectPage.map(p -> ProjectResponse.of(
-                p,
-                new ArrayList<>(p.getBrandStrategies()),
-                new ArrayList<>(p.getColorGuides()),
-                new ArrayList<>(p.getLogos())
-        ));
+        // 2. 페이지의 프로젝트 ID로 조인 테이블만 조회해 자산 ID 매핑 (자산 엔티티 로딩 없음)
+        return ProjectAssetLinks.toResponses(projectRepository, projectPage);
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.logologolab.service.s3;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 관리자 요청으로 비동기 실행되는 고아 객체 정리 작업 상태
+ */
+public record OrphanGcJob(
+        String jobId,
+        Status status,
+        boolean dryRun,
+        OffsetDateTime requestedAt,
+        OffsetDateTime finishedAt,   // 실행 중이면 null
+        OrphanGcReport report        // COMPLETED일 때만 존재
+) {
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        SKIPPED,   // 다른 인스턴스가 락을 잡고 있어 실행하지 않음
+        FAILED
+    }
+
+    static OrphanGcJob running(String jobId, boolean dryRun) {
+        return new OrphanGcJob(jobId, Status.RUNNING, dryRun, OffsetDateTime.now(), null, null);
+    }
+
+    OrphanGcJob finish(Status status, OrphanGcReport report) {
+        return new OrphanGcJob(jobId, status, dryRun, requestedAt, OffsetDateTime.now(), report);
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.logologolab.service.s3;
+
+import java.time.OffsetDateTime;
+
+public record OrphanGcReport(
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        boolean dryRun,
+        int prefixesScanned,
+        long objectsScanned,
+        long tooRecent,        // 유예 기간 이내라 건너뛴 객체
+        long referenced,       // DB에서 참조 중인 객체
+        long alreadyQueued,    // 이미 삭제 아웃박스에 있는 객체
+        long orphansEnqueued,  // 이번 실행에서 삭제 예약한 고아 객체 (dryRun이면 발견 수)
+        boolean limitReached   // 실행당 삭제 한도에 도달해 중단했는지
+) {}
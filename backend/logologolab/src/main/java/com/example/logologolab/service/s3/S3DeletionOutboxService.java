@@ -0,0 +1,126 @@
+package com.example.logologolab.service.s3;
+
+import com.example.logologolab.domain.StorageDeletion;
+import com.example.logologolab.repository.storage.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3DeletionOutboxService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final S3UploadService s3UploadService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${s3.deletion.batch-size:100}")
+    private int batchSize;
+
+    @Value("${s3.deletion.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${s3.deletion.lease:PT5M}")
+    private Duration lease;
+
+    /**
+     * 호출한 쪽의 트랜잭션에 참여해 삭제 예정 객체를 기록 (S3 호출 없음)
+     */
+    @Transactional
+    public void enqueue(String fileUrl) {
+        String key = s3UploadService.extractKey(fileUrl);
+        if (key == null) return;
+        storageDeletionRepository.save(StorageDeletion.of(key));
+    }
+
+    /**
+     * 호출한 쪽 트랜잭션과 무관하게 별도 트랜잭션에서 기록.
+     * 롤백 보상처럼 afterCompletion 콜백에서 호출할 때 사용 (원래 트랜잭션에는 더 이상 참여할 수 없음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(String fileUrl) {
+        String key = s3UploadService.extractKey(fileUrl);
+        if (key == null) return;
+        storageDeletionRepository.save(StorageDeletion.of(key));
+    }
+
+    /**
+     * 처리 시점이 된 항목을 한 배치만큼 S3에서 일괄 삭제. 처리한 row 수를 반환
+     * - 1) 짧은 트랜잭션에서 SKIP LOCKED로 잡아 리스를 걸고 바로 커밋 (row 잠금/커넥션을 S3 호출 동안 쥐지 않음)
+     * - 2) 트랜잭션 밖에서 S3 Multi-Object Delete
+     * - 3) 두 번째 트랜잭션에서 결과 기록: 성공 row 삭제, 실패 row 백오프, max-attempts 도달 시 dead 처리
+     */
+    public int processBatch() {
+        String token = UUID.randomUUID().toString();
+        List<StorageDeletion> batch = transactionTemplate.execute(status -> claim(token));
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<String> keys = batch.stream().map(StorageDeletion::getObjectKey).distinct().toList();
+
+        Set<String> failedKeys;
+        String error;
+        try {
+            failedKeys = new HashSet<>(s3UploadService.deleteObjects(keys));
+            error = "S3 multi-object delete error";
+        } catch (Exception e) {
+            // S3 자체 호출 실패 → 배치 전체 재시도
+            failedKeys = new HashSet<>(keys);
+            error = e.getMessage();
+            log.warn("S3 일괄 삭제 호출 실패 (keys={})", keys.size(), e);
+        }
+
+        List<Long> ids = batch.stream().map(StorageDeletion::getId).toList();
+        Set<String> failed = failedKeys;
+        String lastError = error;
+        transactionTemplate.executeWithoutResult(status -> record(token, ids, failed, lastError));
+        return batch.size();
+    }
+
+    private List<StorageDeletion> claim(String token) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<StorageDeletion> batch = storageDeletionRepository.lockDueBatch(now, batchSize);
+        OffsetDateTime leaseUntil = now.plus(lease);
+        batch.forEach(d -> d.claim(token, leaseUntil));
+        return batch;
+    }
+
+    private void record(String token, List<Long> ids, Set<String> failedKeys, String error) {
+        OffsetDateTime now = OffsetDateTime.now();
+        for (StorageDeletion d : storageDeletionRepository.findAllById(ids)) {
+            // 리스가 만료돼 다른 워커가 다시 가져간 row는 그쪽 결과에 맡김
+            if (!d.isClaimedBy(token)) continue;
+            if (!failedKeys.contains(d.getObjectKey())) {
+                storageDeletionRepository.delete(d);
+                continue;
+            }
+            d.markFailed(error, now.plus(backoff(d.getAttempts() + 1)));
+            if (d.getAttempts() >= maxAttempts) {
+                d.markDead(now);
+                log.error("S3 객체 삭제가 {}회 실패해 포기합니다. key={}, error={}", d.getAttempts(), d.getObjectKey(), error);
+            }
+        }
+    }
+
+    public int getBatchSize() { return batchSize; }
+
+    // 10초부터 시작하는 지수 백오프 (최대 1시간)
+    private Duration backoff(int attempts) {
+        long seconds = 10L << Math.min(attempts - 1, 16);
+        Duration d = Duration.ofSeconds(seconds);
+        return d.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : d;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.logologolab.service.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 아웃박스를 주기적으로 비우는 워커. 요청 스레드/DB 트랜잭션과 분리되어 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionWorker {
+
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+
+    @Value("${s3.deletion.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${s3.deletion.poll-interval-ms:10000}")
+    public void drain() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int processed = s3DeletionOutboxService.processBatch();
+                if (processed < s3DeletionOutboxService.getBatchSize()) break;
+            }
+        } catch (Exception e) {
+            log.error("S3 삭제 아웃박스 처리 중 오류", e);
+        }
+    }
+}
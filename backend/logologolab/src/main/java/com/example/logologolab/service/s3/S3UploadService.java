@@ -1,66 +1,105 @@
 package com.example.logologolab.service.s3;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.logologolab.service.image.ImageOptimizationService;
+import com.example.logologolab.service.image.OptimizedImage;
+import com.example.logologolab.service.storage.ObjectStorage;
+import com.example.logologolab.service.storage.StorageKeys;
+import com.example.logologolab.service.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
-import java.net.URL;
+import java.util.function.Predicate;
 
+/**
+ * 이미지 업로드/삭제 진입점.
+ * 실제 저장은 ObjectStorage(storage.type = s3 | local)에 위임한다. (클래스 이름은 기존 호출부 호환용)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3UploadService {
 
-    private final AmazonS3 s3;
+    /** 버킷 정책에서 logos/* 와 함께 profiles/* 도 공개 읽기여야 한다 (docs/storage.md) */
+    private static final String PROFILE_PREFIX = "profiles";
+    private static final int PROBE_TIMEOUT_MS = 5000;
 
-    @Value("${s3.bucket}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
+    private final ImageOptimizationService imageOptimizationService;
 
     /**
-     * data URL("data:image/png;base64,...") 또는 순수 base64("iVBOR...")를 받아 S3에 업로드하고 공개 URL 반환
+     * data URL("data:image/png;base64,...") 또는 순수 base64("iVBOR...")를 받아 업로드하고 공개 URL 반환
      */
     public String uploadBase64AndGetUrl(String base64OrDataUrl) {
         ParseResult p = parseDataUrl(base64OrDataUrl);
         byte[] bytes = Base64.getDecoder().decode(p.payload().getBytes(StandardCharsets.UTF_8));
-
-        String key = buildKey(p.ext()); // 예: logos/2025/08/12/uuid.png
-
-        ObjectMetadata meta = new ObjectMetadata();
-        meta.setContentType(p.mime());
-        meta.setContentLength(bytes.length);
-
-        s3.putObject(bucketName, key, new ByteArrayInputStream(bytes), meta);
-
-        // 버킷 정책으로 logos/* 공개 허용이면 이 URL이 바로 접근 가능
-        return s3.getUrl(bucketName, key).toString();
+        return uploadBytesAndGetUrl(bytes, p.mime(), p.ext());
     }
 
     /**
      * 바이트 배열 + MIME 타입으로 업로드하고 공개 URL 반환 (이미 mime/확장자를 알고 있을 때)
      */
     public String uploadBytesAndGetUrl(byte[] bytes, String mime, String ext) {
-        String key = buildKey(ext);
+        // 예: logos/2025/08/12/uuid.png (버킷 정책으로 logos/* 공개 허용이면 이 URL이 바로 접근 가능)
+        return upload(StorageKeys.newLogoKey(ext), bytes, mime);
+    }
 
-        ObjectMetadata meta = new ObjectMetadata();
-        meta.setContentType(mime);
-        meta.setContentLength(bytes.length);
+    /**
+     * 프로필 이미지 업로드 (profiles/yyyy/MM/dd/uuid.ext). 로고 고아 객체 정리 대상(logos/)과 분리
+     */
+    public String uploadProfileImageAndGetUrl(String base64OrDataUrl) {
+        ParseResult p = parseDataUrl(base64OrDataUrl);
+        byte[] bytes = Base64.getDecoder().decode(p.payload().getBytes(StandardCharsets.UTF_8));
+        return upload(StorageKeys.newKey(PROFILE_PREFIX, p.ext()), bytes, p.mime());
+    }
+
+    /**
+     * profiles/ 아래 객체를 공개 URL로 읽을 수 있는지 확인.
+     * 작은 프로브 객체를 올려 익명 HEAD 요청을 보낸 뒤 바로 지운다.
+     */
+    public boolean isProfilePrefixPubliclyReadable() {
+        String key = PROFILE_PREFIX + "/.probe/" + UUID.randomUUID() + ".txt";
+        try {
+            objectStorage.put(key, "ok".getBytes(StandardCharsets.US_ASCII), "text/plain");
+            HttpURLConnection conn = (HttpURLConnection) new URL(objectStorage.urlOf(key)).openConnection();
+            conn.setRequestMethod("HEAD");
+            conn.setConnectTimeout(PROBE_TIMEOUT_MS);
+            conn.setReadTimeout(PROBE_TIMEOUT_MS);
+            try {
+                int status = conn.getResponseCode();
+                if (status != HttpURLConnection.HTTP_OK) {
+                    log.warn("프로필 이미지 공개 읽기 확인 실패: status={}, url={}", status, conn.getURL());
+                    return false;
+                }
+                return true;
+            } finally {
+                conn.disconnect();
+            }
+        } catch (Exception e) {
+            log.warn("프로필 이미지 공개 읽기 확인 중 오류", e);
+            return false;
+        } finally {
+            deleteObjectByUrl(objectStorage.urlOf(key));
+        }
+    }
 
-        s3.putObject(bucketName, key, new ByteArrayInputStream(bytes), meta);
-        return s3.getUrl(bucketName, key).toString();
+    /** 이 서비스가 올린 프로필 이미지 URL인지 */
+    public boolean isProfileImageUrl(String url) {
+        return url != null && url.startsWith(objectStorage.urlOf(PROFILE_PREFIX + "/"));
     }
 
     /* ================= helpers ================= */
 
-    private String buildKey(String ext) {
-        String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        return String.format("logos/%s/%s.%s", datePath, UUID.randomUUID(), ext);
+    private String upload(String key, byte[] bytes, String mime) {
+        OptimizedImage image = imageOptimizationService.optimize(bytes, mime);
+        objectStorage.put(key, image.bytes(), image.mime());
+        return objectStorage.urlOf(key);
     }
 
     private ParseResult parseDataUrl(String input) {
@@ -90,14 +129,39 @@ public class S3UploadService {
     private record ParseResult(String mime, String ext, String payload) {}
 
     public void deleteObjectByUrl(String fileUrl) {
-        if (fileUrl == null || fileUrl.isBlank()) return;
+        String key = extractKey(fileUrl);
+        if (key == null) return;
         try {
-            URL url = new URL(fileUrl);
-            String key = url.getPath().substring(1); // URL 경로에서 맨 앞 '/' 제거
-            s3.deleteObject(bucketName, key);
+            objectStorage.delete(key);
         } catch (Exception e) {
-            // 로깅 추가 권장
-            System.err.println("S3 객체 삭제 실패: " + fileUrl + ", error: " + e.getMessage());
+            log.warn("객체 삭제 실패: {}", fileUrl, e);
         }
     }
+
+    /**
+     * 공개 URL에서 객체 키 추출. 해석할 수 없으면 null
+     */
+    public String extractKey(String fileUrl) {
+        return objectStorage.keyOf(fileUrl);
+    }
+
+    /**
+     * 일괄 삭제 (S3는 Multi-Object Delete, 최대 1000개). 삭제에 실패한 키 목록을 반환
+     */
+    public List<String> deleteObjects(List<String> keys) {
+        return objectStorage.deleteAll(keys);
+    }
+
+    /** 객체 키 → 공개 URL (업로드 시 DB에 저장하는 형식과 동일) */
+    public String toUrl(String key) {
+        return objectStorage.urlOf(key);
+    }
+
+    /**
+     * prefix 아래 객체 목록을 페이지(최대 1000개) 단위로 흘려보냄.
+     * pageHandler가 false를 반환하면 나머지 페이지는 조회하지 않는다.
+     */
+    public void listObjectPages(String prefix, Predicate<List<StoredObject>> pageHandler) {
+        objectStorage.list(prefix, pageHandler);
+    }
 }
@@ -0,0 +1,261 @@
+package com.example.logologolab.service.s3;
+
+import com.example.logologolab.repository.brand.BrandStrategyRepository;
+import com.example.logologolab.repository.color.ColorGuideRepository;
+import com.example.logologolab.repository.logo.LogoRepository;
+import com.example.logologolab.repository.storage.ReferencedUrl;
+import com.example.logologolab.repository.storage.StorageDeletionRepository;
+import com.example.logologolab.service.storage.StoredObject;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 저장소(logos/yyyy/MM/dd/)와 DB 사이의 고아 객체 정리 작업.
+ * 업로드 후 DB 저장이 실패했거나 삭제가 누락된 객체를 찾아 삭제 아웃박스에 넣는다.
+ * 직접 업로드 임시 키(uploads/yyyy/MM/dd/)는 DB가 참조하지 않으므로 유예 기간이 지나면 모두 정리된다.
+ * - 참조 중인 URL 집합은 실행마다 한 번, 세 테이블을 id keyset 페이징으로 훑어 메모리에 만든다
+ *   (목록 페이지마다 인덱스 없는 TEXT 컬럼을 IN 조회하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageOrphanCollector {
+
+    private static final String LOCK_KEY = "storage:orphan-gc:lock";
+    private static final DateTimeFormatter DATE_PATH = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    private static final String ROOT_PREFIX = "logos/";
+    private static final String UPLOAD_PREFIX = "uploads/";
+
+    /** 내가 잡은 락일 때만 삭제 (만료 후 다른 인스턴스가 잡은 락을 지우지 않도록) */
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final S3UploadService s3UploadService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final LogoRepository logoRepository;
+    private final ColorGuideRepository colorGuideRepository;
+    private final BrandStrategyRepository brandStrategyRepository;
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${storage.orphan-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.orphan-gc.lookback-days:7}")
+    private int lookbackDays;
+
+    @Value("${storage.orphan-gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    @Value("${storage.orphan-gc.max-deletions-per-run:1000}")
+    private int maxDeletionsPerRun;
+
+    @Value("${storage.orphan-gc.page-pause-ms:200}")
+    private long pagePauseMillis;
+
+    @Value("${storage.orphan-gc.reference-page-size:1000}")
+    private int referencePageSize;
+
+    private volatile OrphanGcReport lastReport;
+    private volatile OrphanGcJob lastJob;
+
+    /** 관리자 요청 실행용 단일 스레드 (요청 스레드를 점유하지 않음) */
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "storage-orphan-gc");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Scheduled(cron = "${storage.orphan-gc.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run(false);
+    }
+
+    /**
+     * 최근 lookbackDays 일자의 prefix를 훑어 고아 객체를 삭제 예약한다.
+     * 다른 인스턴스가 실행 중이면 null 반환
+     */
+    public OrphanGcReport run(boolean dryRun) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("고아 객체 정리가 다른 인스턴스에서 실행 중이라 건너뜁니다.");
+            return null;
+        }
+        try {
+            OrphanGcReport report = collect(dryRun);
+            lastReport = report;
+            log.info("고아 객체 정리 완료: {}", report);
+            return report;
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * 백그라운드에서 실행을 예약하고 작업 상태를 즉시 반환한다.
+     * 이 인스턴스에서 이미 실행 중이면 null 반환
+     */
+    public synchronized OrphanGcJob submit(boolean dryRun) {
+        OrphanGcJob previous = lastJob;
+        if (previous != null && previous.isRunning()) return null;
+
+        OrphanGcJob job = OrphanGcJob.running(UUID.randomUUID().toString(), dryRun);
+        lastJob = job;
+        jobRunner.execute(() -> {
+            try {
+                OrphanGcReport report = run(dryRun);
+                lastJob = (report == null)
+                        ? job.finish(OrphanGcJob.Status.SKIPPED, null)
+                        : job.finish(OrphanGcJob.Status.COMPLETED, report);
+            } catch (Exception e) {
+                log.error("고아 객체 정리 작업 실패: jobId={}", job.jobId(), e);
+                lastJob = job.finish(OrphanGcJob.Status.FAILED, null);
+            }
+        });
+        return job;
+    }
+
+    public OrphanGcReport getLastReport() {
+        return lastReport;
+    }
+
+    public OrphanGcJob getLastJob() {
+        return lastJob;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+    }
+
+    private OrphanGcReport collect(boolean dryRun) {
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        Instant cutoff = startedAt.minusHours(gracePeriodHours).toInstant();
+        Counters c = new Counters();
+
+        // 목록보다 먼저 읽으므로, 이후에 생긴 참조는 유예 기간(cutoff) 덕분에 후보가 되지 않음
+        Set<String> referenced = loadReferencedUrls();
+
+        LocalDate today = LocalDate.now();
+        for (String root : List.of(ROOT_PREFIX, UPLOAD_PREFIX)) {
+            for (int i = 0; i < lookbackDays && !c.limitReached; i++) {
+                String prefix = root + today.minusDays(i).format(DATE_PATH) + "/";
+                c.prefixes++;
+                s3UploadService.listObjectPages(prefix, page -> {
+                    processPage(page, referenced, cutoff, dryRun, c);
+                    pause();
+                    return !c.limitReached;
+                });
+            }
+        }
+
+        return new OrphanGcReport(startedAt, OffsetDateTime.now(), dryRun, c.prefixes, c.scanned,
+                c.tooRecent, c.referenced, c.queued, c.orphans, c.limitReached);
+    }
+
+    /** 세 테이블에서 저장소 prefix로 시작하는 URL을 id 순으로 끝까지 읽어 집합으로 */
+    private Set<String> loadReferencedUrls() {
+        String urlPattern = s3UploadService.toUrl(ROOT_PREFIX) + "%";
+        Set<String> urls = new HashSet<>();
+        collectUrls(urls, urlPattern, logoRepository::findStorageUrlsAfter);
+        collectUrls(urls, urlPattern, colorGuideRepository::findStorageUrlsAfter);
+        collectUrls(urls, urlPattern, brandStrategyRepository::findStorageUrlsAfter);
+        log.info("고아 객체 정리: 참조 URL {}개 적재", urls.size());
+        return urls;
+    }
+
+    private void collectUrls(Set<String> into, String urlPattern, ReferencePageLoader loader) {
+        Pageable page = PageRequest.ofSize(referencePageSize);
+        long afterId = 0L;
+        while (true) {
+            List<ReferencedUrl> rows = loader.load(afterId, urlPattern, page);
+            if (rows.isEmpty()) return;
+            for (ReferencedUrl row : rows) into.add(row.getUrl());
+            if (rows.size() < referencePageSize) return;
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReferencePageLoader {
+        List<ReferencedUrl> load(Long afterId, String urlPattern, Pageable pageable);
+    }
+
+    private void processPage(List<StoredObject> page, Set<String> referencedUrls, Instant cutoff, boolean dryRun, Counters c) {
+        c.scanned += page.size();
+
+        // 1. 유예 기간이 지난 객체만 후보 (업로드 직후 DB 저장 전인 객체 보호)
+        Map<String, String> urlToKey = new LinkedHashMap<>();
+        for (StoredObject o : page) {
+            if (o.lastModified() == null || !o.lastModified().isBefore(cutoff)) {
+                c.tooRecent++;
+                continue;
+            }
+            urlToKey.put(s3UploadService.toUrl(o.key()), o.key());
+        }
+        if (urlToKey.isEmpty()) return;
+
+        // 2. DB 참조 여부는 실행 시작 때 만든 집합으로 메모리에서 확인
+        List<String> orphanUrls = new ArrayList<>();
+        for (String url : urlToKey.keySet()) {
+            if (referencedUrls.contains(url)) c.referenced++;
+            else orphanUrls.add(url);
+        }
+        if (orphanUrls.isEmpty()) return;
+
+        // 3. 이미 삭제 대기 중인 키 제외
+        Set<String> queued = new HashSet<>(storageDeletionRepository.findQueuedKeys(
+                orphanUrls.stream().map(urlToKey::get).toList()));
+        c.queued += queued.size();
+
+        for (String url : orphanUrls) {
+            if (queued.contains(urlToKey.get(url))) continue;
+            if (c.orphans >= maxDeletionsPerRun) {
+                c.limitReached = true;
+                return;
+            }
+            if (!dryRun) s3DeletionOutboxService.enqueue(url);
+            c.orphans++;
+        }
+    }
+
+    private void pause() {
+        if (pagePauseMillis <= 0) return;
+        try {
+            Thread.sleep(pagePauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Counters {
+        int prefixes;
+        long scanned;
+        long tooRecent;
+        long referenced;
+        long queued;
+        long orphans;
+        boolean limitReached;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.logologolab.service.search;
+
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.domain.Style;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 산출물 n-gram 역색인 (인스턴스 로컬, 스레드 안전).
+ * 질의의 모든 gram을 포함하는 문서만 매칭(AND)하고, 가장 짧은 posting부터 교집합을 구한다.
+ */
+public class AssetSearchIndex {
+
+    /** 검색 조건 (null이면 해당 조건 없음) */
+    public record Filter(Long ownerId, AssetType type, Style style, String tag) {
+
+        boolean test(SearchDocument d) {
+            return (ownerId == null || ownerId.equals(d.ownerId()))
+                    && (type == null || type == d.type())
+                    && (style == null || style == d.style())
+                    && (tag == null || d.tags().contains(tag));
+        }
+    }
+
+    public record Result(List<SearchDocument> content, int total) {}
+
+    /** 최신순 (id는 시간순이므로 동시각 tiebreak) */
+    private static final Comparator<SearchDocument> NEWEST_FIRST = Comparator
+            .comparing(SearchDocument::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(SearchDocument::id, Comparator.reverseOrder());
+
+    private final Map<SearchDocument.Key, SearchDocument> docs = new HashMap<>();
+    private final Map<String, Set<SearchDocument.Key>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(SearchDocument doc) {
+        lock.writeLock().lock();
+        try {
+            SearchDocument old = docs.put(doc.key(), doc);
+            if (old != null) unlink(old);
+            for (String g : doc.grams()) {
+                postings.computeIfAbsent(g, k -> new HashSet<>()).add(doc.key());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocument.Key key) {
+        lock.writeLock().lock();
+        try {
+            SearchDocument old = docs.remove(key);
+            if (old != null) unlink(old);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result search(Set<String> grams, Filter filter, int offset, int limit) {
+        if (grams.isEmpty()) return new Result(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            List<Set<SearchDocument.Key>> lists = new ArrayList<>(grams.size());
+            for (String g : grams) {
+                Set<SearchDocument.Key> p = postings.get(g);
+                if (p == null) return new Result(List.of(), 0);
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<SearchDocument> matches = new ArrayList<>();
+            outer:
+            for (SearchDocument.Key key : lists.get(0)) {
+                for (int i = 1; i < lists.size(); i++) {
+                    if (!lists.get(i).contains(key)) continue outer;
+                }
+                SearchDocument d = docs.get(key);
+                if (d != null && filter.test(d)) matches.add(d);
+            }
+
+            matches.sort(NEWEST_FIRST);
+            int from = Math.min(offset, matches.size());
+            int to = Math.min(from + limit, matches.size());
+            return new Result(List.copyOf(matches.subList(from, to)), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(SearchDocument old) {
+        for (String g : old.grams()) {
+            Set<SearchDocument.Key> p = postings.get(g);
+            if (p == null) continue;
+            p.remove(old.key());
+            if (p.isEmpty()) postings.remove(g);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.logologolab.service.search;
+
+import com.example.logologolab.config.datasource.DataSourceRoute;
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.domain.Style;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import com.example.logologolab.repository.brand.BrandStrategyRepository;
+import com.example.logologolab.repository.color.ColorGuideRepository;
+import com.example.logologolab.repository.logo.LogoRepository;
+import com.example.logologolab.support.NGrams;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 산출물 검색 (인스턴스 로컬 n-gram 색인, LIKE 스캔 없음).
+ * - 기동 시 전체 색인, 이후 저장/수정/태깅/삭제 커밋 후 해당 건만 DB에서 다시 읽어 반영
+ * - 변경은 Redis pub/sub(CHANNEL)으로 다른 인스턴스에 전파, 유실 대비 주기적으로 새 색인을 만들어 교체
+ * - 재구축 중 들어온 변경은 새 색인에도 반영해 교체 시 유실되지 않게 한다
+ * - 재구축 중 변경된 키는 기록해 두고, 그 전에 읽어 둔 페이지가 뒤늦게 덮어쓰지 않도록 적재 시 건너뛴다
+ */
+@Slf4j
+@Component
+public class AssetSearchService implements MessageListener {
+
+    public static final String CHANNEL = "search:index";
+
+    /** 자기 인스턴스가 보낸 메시지는 무시 */
+    private final String node = UUID.randomUUID().toString();
+
+    private final LogoRepository logoRepository;
+    private final ColorGuideRepository colorGuideRepository;
+    private final BrandStrategyRepository brandStrategyRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final Timer searchTimer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxSize;
+
+    private volatile AssetSearchIndex current = new AssetSearchIndex();
+    private volatile AssetSearchIndex rebuilding;
+    /** 재구축 중 개별 반영(수정/삭제)된 키 — 새 색인에는 이 키의 페이지 적재 결과를 쓰지 않는다 */
+    private final Set<SearchDocument.Key> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public AssetSearchService(
+            LogoRepository logoRepository,
+            ColorGuideRepository colorGuideRepository,
+            BrandStrategyRepository brandStrategyRepository,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${search.index.enabled:true}") boolean enabled,
+            @Value("${search.index.batch-size:500}") int batchSize,
+            @Value("${search.max-size:50}") int maxSize
+    ) {
+        this.logoRepository = logoRepository;
+        this.colorGuideRepository = colorGuideRepository;
+        this.brandStrategyRepository = brandStrategyRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // afterCommit 콜백 안에서도 원 트랜잭션과 분리된 새 트랜잭션으로 읽도록
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+
+        this.searchTimer = Timer.builder("search.query").register(meterRegistry);
+        Gauge.builder("search.index.documents", this, s -> s.current.size()).register(meterRegistry);
+        Gauge.builder("search.index.ready", this, s -> s.ready ? 1 : 0).register(meterRegistry);
+    }
+
+    /**
+     * @param ownerId null이면 전체 공개 산출물 대상
+     */
+    public Page<AssetListItem> search(String q, AssetType type, Style style, String tag, Long ownerId, Pageable pageable) {
+        if (q == null || q.isBlank()) throw new BusinessException(ErrorCode.KEYWORD_REQUIRED);
+        Set<String> grams = NGrams.ofQuery(q);
+        if (grams.isEmpty()) throw new BusinessException(ErrorCode.KEYWORD_REQUIRED);
+
+        int size = Math.max(1, Math.min(pageable.getPageSize(), maxSize));
+        Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+        String tagName = (tag == null || tag.isBlank()) ? null : tag.trim();
+
+        AssetSearchIndex.Result r = searchTimer.record(() -> current.search(
+                grams, new AssetSearchIndex.Filter(ownerId, type, style, tagName), (int) page.getOffset(), size));
+        return new PageImpl<>(r.content().stream().map(SearchDocument::toListItem).toList(), page, r.total());
+    }
+
+    /** 저장/수정/태깅 후 호출: 커밋 후 해당 건을 다시 읽어 색인 */
+    public void reindex(AssetType type, Long id) {
+        if (!enabled || id == null) return;
+        afterCommit(() -> {
+            apply(type, id);
+            publish("U", type, id);
+        });
+    }
+
+    /** 삭제 후 호출: 커밋 후 색인에서 제거 */
+    public void remove(AssetType type, Long id) {
+        if (!enabled || id == null) return;
+        afterCommit(() -> {
+            SearchDocument.Key key = new SearchDocument.Key(type, id);
+            forEachIndex(key, idx -> idx.remove(key));
+            publish("D", type, id);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (enabled) rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval-ms:21600000}",
+            initialDelayString = "${search.index.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        if (!enabled) return;
+        long started = System.currentTimeMillis();
+        AssetSearchIndex fresh = new AssetSearchIndex();
+        touchedDuringRebuild.clear();
+        rebuilding = fresh;
+        try {
+            load(fresh, logoRepository::findByIdGreaterThanOrderByIdAsc, SearchDocument::of);
+            load(fresh, colorGuideRepository::findByIdGreaterThanOrderByIdAsc, SearchDocument::of);
+            load(fresh, brandStrategyRepository::findByIdGreaterThanOrderByIdAsc, SearchDocument::of);
+            current = fresh;
+            ready = true;
+            log.info("[SEARCH] 색인 재구축 완료: {}건, {}ms", fresh.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("검색 색인 재구축 실패 (기존 색인 유지)", e);
+        } finally {
+            rebuilding = null;
+            touchedDuringRebuild.clear();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // 형식: op|type|id|node
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 4 || node.equals(parts[3])) return;
+        try {
+            AssetType type = AssetType.valueOf(parts[1]);
+            Long id = Long.parseLong(parts[2]);
+            if ("D".equals(parts[0])) {
+                SearchDocument.Key key = new SearchDocument.Key(type, id);
+                forEachIndex(key, idx -> idx.remove(key));
+            } else {
+                apply(type, id);
+            }
+        } catch (Exception e) {
+            log.warn("검색 색인 메시지 처리 실패: {}", e.toString());
+        }
+    }
+
+    /* ================= helpers ================= */
+
+    private <E> void load(AssetSearchIndex target,
+                          PageLoader<E> loader,
+                          Function<E, SearchDocument> toDoc) {
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<SearchDocument> docs = readOnlyTx.execute(tx ->
+                    loader.load(from, PageRequest.ofSize(batchSize)).stream().map(toDoc).toList());
+            if (docs == null || docs.isEmpty()) return;
+            // 이 페이지를 읽는 동안 개별 반영된 키는 더 최신 상태가 이미 들어가 있으므로 건너뜀
+            synchronized (target) {
+                for (SearchDocument doc : docs) {
+                    if (!touchedDuringRebuild.contains(doc.key())) target.put(doc);
+                }
+            }
+            afterId = docs.get(docs.size() - 1).id();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<E> {
+        List<E> load(Long afterId, Pageable pageable);
+    }
+
+    /** DB에서 최신 상태를 읽어 색인 (없으면 삭제된 것으로 보고 제거) */
+    private void apply(AssetType type, Long id) {
+        try {
+            // 방금 커밋된 변경이므로 복제본이 아닌 primary에서 읽는다
+            Optional<SearchDocument> doc = DataSourceRoute.onPrimary(() -> readOnlyTx.execute(tx -> switch (type) {
+                case LOGO -> logoRepository.findById(id).map(SearchDocument::of);
+                case COLOR_GUIDE -> colorGuideRepository.findById(id).map(SearchDocument::of);
+                case BRAND_STRATEGY -> brandStrategyRepository.findById(id).map(SearchDocument::of);
+            }));
+            SearchDocument.Key key = new SearchDocument.Key(type, id);
+            if (doc != null && doc.isPresent()) forEachIndex(key, idx -> idx.put(doc.get()));
+            else forEachIndex(key, idx -> idx.remove(key));
+        } catch (Exception e) {
+            // 다음 재구축 때 반영됨
+            log.warn("검색 색인 갱신 실패: type={}, id={}, cause={}", type, id, e.toString());
+        }
+    }
+
+    /** 현재 색인과 재구축 중인 색인에 반영 (재구축 중이면 키를 기록해 페이지 적재와 원자적으로 처리) */
+    private void forEachIndex(SearchDocument.Key key, Consumer<AssetSearchIndex> action) {
+        action.accept(current);
+        AssetSearchIndex next = rebuilding;
+        if (next != null && next != current) {
+            synchronized (next) {
+                touchedDuringRebuild.add(key);
+                action.accept(next);
+            }
+        }
+    }
+
+    private void publish(String op, AssetType type, Long id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, op + "|" + type.name() + "|" + id + "|" + node);
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 재구축 때 반영
+            log.warn("검색 색인 pub/sub 전파 실패: {}", e.toString());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
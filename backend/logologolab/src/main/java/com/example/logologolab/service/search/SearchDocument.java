@@ -0,0 +1,80 @@
+package com.example.logologolab.service.search;
+
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.domain.BrandStrategy;
+import com.example.logologolab.domain.ColorGuide;
+import com.example.logologolab.domain.Logo;
+import com.example.logologolab.domain.Style;
+import com.example.logologolab.domain.Tag;
+import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.asset.AssetListItem;
+import com.example.logologolab.support.Excerpts;
+import com.example.logologolab.support.NGrams;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** 검색 인덱스에 올라가는 산출물 1건 (본문은 n-gram으로만 보관) */
+public record SearchDocument(
+        AssetType type,
+        Long id,
+        Long ownerId,
+        Style style, // 로고는 스타일 없음(null)
+        Set<String> tags,
+        String title,
+        String thumbnailUrl,
+        OffsetDateTime createdAt,
+        Set<String> grams
+) {
+
+    public record Key(AssetType type, Long id) {}
+
+    public Key key() {
+        return new Key(type, id);
+    }
+
+    public AssetListItem toListItem() {
+        return new AssetListItem(id, type.name(), title, thumbnailUrl, createdAt);
+    }
+
+    public static SearchDocument of(Logo e) {
+        Set<String> tags = tagNames(e.getTags());
+        return new SearchDocument(AssetType.LOGO, e.getId(), ownerId(e.getCreatedBy()), null, tags,
+                Excerpts.of(e.getPrompt(), Excerpts.BRIEF_MAX), e.getImageUrl(), e.getCreatedAt(),
+                grams(tags, e.getPrompt()));
+    }
+
+    public static SearchDocument of(ColorGuide e) {
+        Set<String> tags = tagNames(e.getTags());
+        return new SearchDocument(AssetType.COLOR_GUIDE, e.getId(), ownerId(e.getCreatedBy()), e.getStyle(), tags,
+                Excerpts.of(e.getBriefKo(), Excerpts.BRIEF_MAX), null, e.getCreatedAt(),
+                grams(tags, e.getBriefKo(), e.getMainDesc(), e.getSubDesc(), e.getPointDesc(), e.getBackgroundDesc()));
+    }
+
+    public static SearchDocument of(BrandStrategy e) {
+        Set<String> tags = tagNames(e.getTags());
+        return new SearchDocument(AssetType.BRAND_STRATEGY, e.getId(), ownerId(e.getCreatedBy()), e.getStyle(), tags,
+                Excerpts.of(e.getBriefKo(), Excerpts.BRIEF_MAX), null, e.getCreatedAt(),
+                grams(tags, e.getBriefKo(), e.getMarkdown()));
+    }
+
+    private static Set<String> tagNames(Set<Tag> tags) {
+        if (tags == null) return Set.of();
+        return tags.stream().map(Tag::getName).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Long ownerId(User u) {
+        return u == null ? null : u.getId();
+    }
+
+    /** 본문 필드 + 태그 이름을 함께 색인 */
+    private static Set<String> grams(Set<String> tags, String... fields) {
+        String text = Stream.concat(Stream.of(fields), tags.stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+        return Set.copyOf(NGrams.of(text));
+    }
+}
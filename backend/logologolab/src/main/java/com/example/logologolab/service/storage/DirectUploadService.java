@@ -0,0 +1,128 @@
+package com.example.logologolab.service.storage;
+
+import com.example.logologolab.domain.User;
+import com.example.logologolab.dto.upload.UploadIntentResponse;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 브라우저 → 저장소 직접 업로드.
+ * 1) createIntent: 임시 키(uploads/) + 서명 PUT URL 발급, 인텐트(소유자/타입/크기)를 Redis에 보관
+ * 2) 브라우저가 바이너리를 직접 PUT (앱 서버를 거치지 않음, 타입/크기는 서명에 포함)
+ * 3) commit: 임시 객체를 클라이언트가 쓸 수 없는 최종 키(logos/)로 복사한 뒤, 복사본의 크기/타입/파일 시그니처를 검증하고 공개 URL 반환
+ *    → 서명 URL이 아직 유효해도 커밋 이후 임시 키를 덮어쓰는 것은 최종 객체에 영향이 없음
+ *
+ * 직접 업로드된 이미지는 ImageOptimizationService를 거치지 않는다.
+ * 커밋되지 않은 uploads/ 객체와 검증에 실패한 복사본은 고아 객체 정리 대상이 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+
+    private static final String INTENT_KEY_PREFIX = "upload:intent:";
+
+    private final ObjectStorage objectStorage;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${storage.direct-upload.max-bytes:10485760}")
+    private long maxBytes;
+
+    @Value("${storage.direct-upload.url-ttl-seconds:600}")
+    private long urlTtlSeconds;
+
+    @Value("${storage.direct-upload.commit-window-seconds:3600}")
+    private long commitWindowSeconds;
+
+    public UploadIntentResponse createIntent(User user, String contentType, long size) {
+        String mime = normalize(contentType);
+        if (!StorageKeys.isAllowedImage(mime)) throw new BusinessException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+        if (size <= 0 || size > maxBytes) throw new BusinessException(ErrorCode.UPLOAD_SIZE_EXCEEDED);
+
+        String key = StorageKeys.newUploadKey(StorageKeys.extensionOf(mime));
+        PresignedUpload upload = objectStorage.presignPut(key, mime, size, Duration.ofSeconds(urlTtlSeconds));
+
+        String value = user.getId() + "|" + mime + "|" + size;
+        redisTemplate.opsForValue().set(INTENT_KEY_PREFIX + key, value,
+                Duration.ofSeconds(urlTtlSeconds + commitWindowSeconds));
+
+        return new UploadIntentResponse(upload.key(), upload.url(), upload.method(), upload.headers(), upload.expiresAt());
+    }
+
+    /**
+     * 인텐트 소유자 확인 + 최종 키로 복사 + 복사본 검증 후 공개 URL 반환.
+     * 인텐트는 검증을 통과한 뒤에만 지우므로 일시적인 실패는 같은 키로 다시 커밋할 수 있고,
+     * 동시에 두 번 커밋되면 인텐트를 먼저 지운 쪽만 성공한다.
+     */
+    public String commit(User user, String key) {
+        String intentKey = INTENT_KEY_PREFIX + key;
+        String value = redisTemplate.opsForValue().get(intentKey);
+        if (value == null) throw new BusinessException(ErrorCode.UPLOAD_INTENT_NOT_FOUND);
+
+        String[] parts = value.split("\\|");
+        if (!Objects.equals(parts[0], String.valueOf(user.getId()))) {
+            throw new BusinessException(ErrorCode.UPLOAD_INTENT_NOT_FOUND);
+        }
+        String expectedMime = parts[1];
+        long expectedSize = Long.parseLong(parts[2]);
+
+        if (objectStorage.stat(key).isEmpty()) throw new BusinessException(ErrorCode.UPLOADED_OBJECT_NOT_FOUND);
+
+        // 이후 검증은 클라이언트가 쓸 수 없는 복사본을 대상으로 한다 (검증 후 덮어쓰기 차단)
+        String finalKey = StorageKeys.newLogoKey(StorageKeys.extensionOf(expectedMime));
+        objectStorage.copy(key, finalKey);
+        try {
+            verify(finalKey, expectedMime, expectedSize);
+            if (!Boolean.TRUE.equals(redisTemplate.delete(intentKey))) {
+                throw new BusinessException(ErrorCode.UPLOAD_INTENT_NOT_FOUND); // 동시 커밋에서 진 쪽
+            }
+        } catch (RuntimeException e) {
+            deleteQuietly(finalKey);
+            throw e;
+        }
+        deleteQuietly(key);
+        return objectStorage.urlOf(finalKey);
+    }
+
+    private void verify(String key, String expectedMime, long expectedSize) {
+        StoredObject object = objectStorage.stat(key)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOADED_OBJECT_NOT_FOUND));
+
+        if (object.size() != expectedSize || !expectedMime.equalsIgnoreCase(normalize(object.contentType()))) {
+            log.warn("Direct upload rejected key={} expected={}/{} actual={}/{}",
+                    key, expectedMime, expectedSize, object.contentType(), object.size());
+            throw new BusinessException(ErrorCode.UPLOADED_OBJECT_MISMATCH);
+        }
+
+        // 선언한 Content-Type은 클라이언트가 정한 값이므로 실제 바이트로 다시 확인
+        String sniffed = StorageKeys.sniffMime(objectStorage.readHead(key, StorageKeys.SIGNATURE_BYTES));
+        if (!expectedMime.equals(sniffed)) {
+            log.warn("Direct upload rejected key={} declared={} sniffed={}", key, expectedMime, sniffed);
+            throw new BusinessException(ErrorCode.UPLOADED_OBJECT_MISMATCH);
+        }
+    }
+
+    /** 실패해도 고아 객체 정리가 나중에 지우므로 로그만 남김 */
+    private void deleteQuietly(String key) {
+        try {
+            objectStorage.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Direct upload cleanup failed key={} cause={}", key, e.toString());
+        }
+    }
+
+    /** "image/png; charset=..." → "image/png" */
+    static String normalize(String contentType) {
+        if (contentType == null) return null;
+        int semi = contentType.indexOf(';');
+        return (semi >= 0 ? contentType.substring(0, semi) : contentType).trim().toLowerCase();
+    }
+}
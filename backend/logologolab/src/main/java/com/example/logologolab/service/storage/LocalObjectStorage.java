@@ -0,0 +1,343 @@
+package com.example.logologolab.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 로컬 디스크 저장소 (단일 노드/온프레미스/테스트용).
+ * - 공개 URL은 {public-base-url}/media/{key} 이며 MediaController가 서빙
+ * - S3 pre-signed URL 대신 HMAC 서명된 앱 내부 PUT 엔드포인트(/api/storage/local/**)로 업로드를 받는다
+ * - 작은 파일은 메모리 맵으로 열어 LRU로 보관 (hot 이미지의 반복 read 시스템콜 제거)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    public static final String UPLOAD_PATH = "/api/storage/local/";
+    public static final String MEDIA_PATH = "/media/";
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int MIN_SIGNING_SECRET_LENGTH = 32;
+
+    private final Path root;
+    private final String publicBaseUrl;
+    private final byte[] signingKey;
+    private final long mmapMaxBytes;
+    private final Map<String, MappedEntry> mapped;
+
+    public LocalObjectStorage(
+            @Value("${storage.local.root-dir:./storage}") String rootDir,
+            @Value("${storage.local.public-base-url:http://localhost:8080}") String publicBaseUrl,
+            @Value("${storage.local.signing-secret:}") String signingSecret,
+            @Value("${storage.local.mmap-max-bytes:262144}") long mmapMaxBytes,
+            @Value("${storage.local.mmap-cache-entries:256}") int mmapCacheEntries
+    ) throws IOException {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+        // JWT 서명 키를 재사용하지 않도록 업로드 전용 비밀값을 강제
+        if (signingSecret == null || signingSecret.length() < MIN_SIGNING_SECRET_LENGTH) {
+            throw new IllegalStateException("storage.local.signing-secret(" + MIN_SIGNING_SECRET_LENGTH + "자 이상)을 설정해야 합니다.");
+        }
+        this.signingKey = signingSecret.getBytes(StandardCharsets.UTF_8);
+        this.mmapMaxBytes = mmapMaxBytes;
+        // access-order LinkedHashMap = LRU. 매핑 해제는 GC에 맡긴다
+        this.mapped = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MappedEntry> eldest) {
+                return size() > mmapCacheEntries;
+            }
+        };
+        Files.createDirectories(root);
+        log.info("Local object storage root: {}", root);
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            evict(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            evict(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                log.warn("로컬 객체 삭제 실패: {}", key, e);
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void list(String prefix, Predicate<List<StoredObject>> pageHandler) {
+        // prefix는 "logos/2025/08/11/" 처럼 디렉터리 단위로 쓰인다
+        int slash = prefix.lastIndexOf('/');
+        Path dir = (slash < 0) ? root : resolve(prefix.substring(0, slash));
+        if (!Files.isDirectory(dir)) return;
+
+        // 디렉터리 하나씩 정렬해 깊이 우선으로 내려감 → 전체 트리를 메모리에 올리지 않고 키 순서대로 흘려보냄
+        try {
+            Deque<Iterator<Path>> stack = new ArrayDeque<>();
+            stack.push(sortedChildren(dir));
+            List<StoredObject> page = new ArrayList<>(PAGE_SIZE);
+            while (!stack.isEmpty()) {
+                Iterator<Path> it = stack.peek();
+                if (!it.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                Path p = it.next();
+                BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class);
+                if (attrs.isDirectory()) {
+                    stack.push(sortedChildren(p));
+                    continue;
+                }
+                String key = root.relativize(p).toString().replace('\\', '/');
+                if (!attrs.isRegularFile() || !key.startsWith(prefix) || p.getFileName().toString().startsWith(".upload-")) continue;
+                page.add(new StoredObject(key, attrs.size(), null, attrs.lastModifiedTime().toInstant()));
+                if (page.size() == PAGE_SIZE) {
+                    if (!pageHandler.test(page)) return;
+                    page = new ArrayList<>(PAGE_SIZE);
+                }
+            }
+            if (!page.isEmpty()) pageHandler.test(page);
+        } catch (NoSuchFileException e) {
+            // 순회 중 디렉터리가 지워진 경우 (고아 정리와 겹칠 때) 남은 페이지 없음으로 처리
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+
+        String url = UriComponentsBuilder.fromHttpUrl(publicBaseUrl + UPLOAD_PATH + key)
+                .queryParam("size", contentLength)
+                .queryParam("expires", expires)
+                .queryParam("signature", sign(key, contentType, contentLength, expires))
+                .build()
+                .toUriString();
+        return new PresignedUpload(key, url, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /** 임시 파일로 복사한 뒤 원자적으로 이동 (읽는 쪽이 절반만 쓰인 파일을 보지 않도록) */
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        try {
+            Path source = resolve(sourceKey);
+            Path target = resolve(targetKey);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try {
+                Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            evict(targetKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        Path file = resolve(key);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) return Optional.empty();
+            return Optional.of(new StoredObject(key, attrs.size(), StorageKeys.mimeOfKey(key), attrs.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] readHead(String key, int length) {
+        try (InputStream in = Files.newInputStream(resolve(key))) {
+            return in.readNBytes(length);
+        } catch (NoSuchFileException e) {
+            return new byte[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return publicBaseUrl + MEDIA_PATH + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String base = publicBaseUrl + MEDIA_PATH;
+        if (url == null || !url.startsWith(base)) return null;
+        String key = url.substring(base.length());
+        return StorageKeys.isSafeKey(key) ? key : null;
+    }
+
+    /* ================= 서빙 지원 (MediaController) ================= */
+
+    /** 키 → 실제 파일 경로 (루트 밖으로 나가는 키는 IllegalArgumentException) */
+    public Path resolve(String key) {
+        if (!StorageKeys.isSafeKey(key)) throw new IllegalArgumentException("잘못된 객체 키입니다.");
+        Path p = root.resolve(key).normalize();
+        if (!p.startsWith(root)) throw new IllegalArgumentException("잘못된 객체 키입니다.");
+        return p;
+    }
+
+    /**
+     * mmap-max-bytes 이하 파일의 읽기 전용 매핑 (LRU 캐시). 크거나 없으면 null.
+     * 파일이 바뀌면(크기/수정시각) 다시 매핑한다.
+     */
+    public MappedByteBuffer mapped(String key, StoredObject object) throws IOException {
+        if (object.size() > mmapMaxBytes || object.size() == 0) return null;
+
+        synchronized (mapped) {
+            MappedEntry e = mapped.get(key);
+            if (e != null && e.size == object.size() && e.lastModified.equals(object.lastModified())) {
+                return e.buffer;
+            }
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel ch = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            buffer = ch.map(FileChannel.MapMode.READ_ONLY, 0, object.size());
+        }
+        synchronized (mapped) {
+            mapped.put(key, new MappedEntry(buffer, object.size(), object.lastModified()));
+        }
+        return buffer;
+    }
+
+    private void evict(String key) {
+        synchronized (mapped) {
+            mapped.remove(key);
+        }
+    }
+
+    private record MappedEntry(MappedByteBuffer buffer, long size, Instant lastModified) {}
+
+    /* ================= 업로드 엔드포인트 지원 ================= */
+
+    /** 서명/만료 검증. 서명은 key, Content-Type, 크기, 만료시각을 묶는다 */
+    public boolean verifyUpload(String key, String contentType, long size, long expires, String signature) {
+        if (!StorageKeys.isSafeKey(key) || contentType == null || signature == null) return false;
+        if (Instant.now().getEpochSecond() > expires) return false;
+        byte[] expected = sign(key, contentType, size, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 임시 파일에 받은 뒤 원자적으로 이동. maxBytes를 넘으면 중단하고 false 반환
+     */
+    public boolean write(String key, InputStream in, long maxBytes) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long written = 0;
+            byte[] buf = new byte[8192];
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                int n;
+                while ((n = in.read(buf)) != -1) {
+                    written += n;
+                    if (written > maxBytes) return false;
+                    out.write(buf, 0, n);
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict(key);
+            return true;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /* ================= helpers ================= */
+
+    /** 한 디렉터리의 직계 항목만 이름순으로 */
+    private static Iterator<Path> sortedChildren(Path dir) throws IOException {
+        List<Path> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            stream.forEach(children::add);
+        }
+        children.sort(null);
+        return children.iterator();
+    }
+
+    private String sign(String key, String contentType, long size, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
+            byte[] sig = mac.doFinal((key + "\n" + contentType.toLowerCase() + "\n" + size + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(sig);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 서명 실패", e);
+        }
+    }
+}
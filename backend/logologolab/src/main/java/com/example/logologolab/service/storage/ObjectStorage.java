@@ -0,0 +1,46 @@
+package com.example.logologolab.service.storage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 이미지 객체 저장소 SPI.
+ * storage.type 값(s3 | local)에 따라 구현체 하나만 빈으로 등록된다.
+ */
+public interface ObjectStorage {
+
+    /** 바이트 업로드 (같은 키가 있으면 덮어씀) */
+    void put(String key, byte[] bytes, String contentType);
+
+    /** 단건 삭제. 없는 키는 무시 */
+    void delete(String key);
+
+    /** 일괄 삭제. 삭제에 실패한 키 목록을 반환 */
+    List<String> deleteAll(List<String> keys);
+
+    /**
+     * prefix 아래 객체를 페이지(최대 1000개) 단위로 흘려보냄.
+     * pageHandler가 false를 반환하면 나머지 페이지는 조회하지 않는다.
+     */
+    void list(String prefix, Predicate<List<StoredObject>> pageHandler);
+
+    /** 브라우저가 바이너리를 직접 PUT 할 수 있는 서명 URL 발급 (Content-Type과 크기를 서명에 포함) */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl);
+
+    /** 같은 저장소 안에서 객체 복사 (대상 키가 있으면 덮어씀) */
+    void copy(String sourceKey, String targetKey);
+
+    /** 객체 메타데이터 조회. 없으면 empty */
+    Optional<StoredObject> stat(String key);
+
+    /** 객체 앞부분 최대 length 바이트 (파일 시그니처 검증용). 없으면 빈 배열 */
+    byte[] readHead(String key, int length);
+
+    /** 객체 키 → DB에 저장하는 공개 URL */
+    String urlOf(String key);
+
+    /** 공개 URL → 객체 키. 이 저장소의 URL로 해석할 수 없으면 null */
+    String keyOf(String url);
+}
@@ -0,0 +1,16 @@
+package com.example.logologolab.service.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드용 서명 URL.
+ * headers는 클라이언트가 PUT 요청에 그대로 실어야 하는 헤더 (서명에 포함됨)
+ */
+public record PresignedUpload(
+        String key,
+        String url,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {}
@@ -0,0 +1,153 @@
+package com.example.logologolab.service.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3 s3;
+
+    @Value("${s3.bucket}")
+    private String bucketName;
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        ObjectMetadata meta = new ObjectMetadata();
+        meta.setContentType(contentType);
+        meta.setContentLength(bytes.length);
+        s3.putObject(bucketName, key, new ByteArrayInputStream(bytes), meta);
+    }
+
+    @Override
+    public void delete(String key) {
+        s3.deleteObject(bucketName, key);
+    }
+
+    /** Multi-Object Delete로 한 번에 삭제 (최대 1000개) */
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys == null || keys.isEmpty()) return List.of();
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            s3.deleteObjects(request);
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .toList();
+        }
+    }
+
+    @Override
+    public void list(String prefix, Predicate<List<StoredObject>> pageHandler) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withMaxKeys(1000);
+
+        ListObjectsV2Result result;
+        do {
+            result = s3.listObjectsV2(request);
+            List<StoredObject> page = result.getObjectSummaries().stream()
+                    .map(o -> new StoredObject(o.getKey(), o.getSize(), null,
+                            o.getLastModified() == null ? null : o.getLastModified().toInstant()))
+                    .toList();
+            if (!pageHandler.test(page)) return;
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        // Content-Type/Content-Length를 서명에 포함 → 다른 타입이나 크기로 올리면 S3가 403 반환
+        // (Content-Length는 브라우저가 자동으로 붙이므로 응답 headers에는 넣지 않음)
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+
+        String url = s3.generatePresignedUrl(request).toString();
+        return new PresignedUpload(key, url, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) {
+        try {
+            ObjectMetadata meta = s3.getObjectMetadata(bucketName, key);
+            Instant lastModified = meta.getLastModified() == null ? null : meta.getLastModified().toInstant();
+            return Optional.of(new StoredObject(key, meta.getContentLength(), meta.getContentType(), lastModified));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) return Optional.empty();
+            throw e;
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        s3.copyObject(bucketName, sourceKey, bucketName, targetKey);
+    }
+
+    /** Range GET으로 앞부분만 받는다 */
+    @Override
+    public byte[] readHead(String key, int length) {
+        GetObjectRequest request = new GetObjectRequest(bucketName, key).withRange(0, length - 1);
+        try (S3Object object = s3.getObject(request)) {
+            return object.getObjectContent().readNBytes(length);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) return new byte[0];
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return s3.getUrl(bucketName, key).toString();
+    }
+
+    /** 공개 URL 경로에서 맨 앞 '/' 제거 */
+    @Override
+    public String keyOf(String url) {
+        if (url == null || url.isBlank()) return null;
+        try {
+            String path = new URL(url).getPath();
+            return (path.length() > 1) ? path.substring(1) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
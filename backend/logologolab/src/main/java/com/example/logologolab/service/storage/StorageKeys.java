@@ -0,0 +1,86 @@
+package com.example.logologolab.service.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 객체 키 규칙과 허용 이미지 타입.
+ * 키 형식은 S3UploadService와 동일(logos/yyyy/MM/dd/uuid.ext)해서 고아 객체 정리 대상에 그대로 포함된다.
+ * 스크립트를 담을 수 있는 SVG는 허용하지 않는다 (저장형 XSS 방지).
+ */
+public final class StorageKeys {
+
+    private static final Map<String, String> EXT_BY_MIME = Map.of(
+            "image/png", "png",
+            "image/jpeg", "jpg",
+            "image/webp", "webp"
+    );
+
+    private static final Map<String, String> MIME_BY_EXT = Map.of(
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "webp", "image/webp"
+    );
+
+    /** 시그니처 판별에 필요한 앞부분 바이트 수 (WEBP: RIFF....WEBP) */
+    public static final int SIGNATURE_BYTES = 12;
+
+    private StorageKeys() {}
+
+    public static boolean isAllowedImage(String mime) {
+        return mime != null && EXT_BY_MIME.containsKey(mime.toLowerCase());
+    }
+
+    public static String extensionOf(String mime) {
+        return EXT_BY_MIME.get(mime.toLowerCase());
+    }
+
+    /** 확장자로 MIME 추정. 알 수 없으면 application/octet-stream */
+    public static String mimeOfKey(String key) {
+        int dot = key.lastIndexOf('.');
+        if (dot < 0) return "application/octet-stream";
+        return MIME_BY_EXT.getOrDefault(key.substring(dot + 1).toLowerCase(), "application/octet-stream");
+    }
+
+    /** 파일 앞부분 시그니처로 실제 이미지 타입 판별. 허용 타입이 아니면 null */
+    public static String sniffMime(byte[] head) {
+        if (head == null) return null;
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return "image/png";
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) return "image/jpeg";
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) return "image/webp";
+        return null;
+    }
+
+    public static String newLogoKey(String ext) {
+        return newKey("logos", ext);
+    }
+
+    /** 직접 업로드 임시 키 (클라이언트가 서명 URL로 쓸 수 있는 유일한 위치, 커밋 시 logos/로 복사) */
+    public static String newUploadKey(String ext) {
+        return newKey("uploads", ext);
+    }
+
+    /** {prefix}/yyyy/MM/dd/uuid.ext */
+    public static String newKey(String prefix, String ext) {
+        String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        return String.format("%s/%s/%s.%s", prefix, datePath, UUID.randomUUID(), ext);
+    }
+
+    /** 상위 경로 탈출(..)이나 절대 경로가 섞인 키 차단 */
+    public static boolean isSafeKey(String key) {
+        return key != null && !key.isBlank()
+                && !key.startsWith("/") && !key.contains("\\")
+                && !key.contains("..") && !key.contains("//");
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... signature) {
+        if (bytes.length < offset + signature.length) return false;
+        for (int i = 0; i < signature.length; i++) {
+            if ((bytes[offset + i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.logologolab.service.storage;
+
+import java.time.Instant;
+
+public record StoredObject(
+        String key,
+        long size,
+        String contentType,   // 목록 조회 결과에서는 null일 수 있음
+        Instant lastModified
+) {}
@@ -0,0 +1,163 @@
+package com.example.logologolab.service.tag;
+
+import com.example.logologolab.domain.Tag;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import com.example.logologolab.repository.tag.TagEntry;
+import com.example.logologolab.repository.tag.TagRepository;
+import com.example.logologolab.support.TimeSortedIds;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 로컬 태그 사전 (name → id).
+ * - 기동 시 전체 적재, 이후 태깅은 메모리 조회 + (없는 이름만) upsert 1회
+ * - ON DUPLICATE KEY UPDATE라 동시 태깅이 같은 이름을 만들어도 unique 위반 없이 먼저 들어간 row를 사용
+ *   (INSERT IGNORE와 달리 길이 초과 같은 다른 오류는 그대로 실패하므로, 이름은 앞에서 trim/길이 검증)
+ * - 새 항목은 커밋 후에만 로컬 반영 + Redis pub/sub(CHANNEL)으로 다른 인스턴스에 전파 (롤백된 ID가 남지 않게)
+ * - 전파가 유실돼도 사전에 없는 이름은 DB 경로로 처리되므로 결과는 항상 정확
+ */
+@Slf4j
+@Component
+public class TagDictionary implements MessageListener {
+
+    public static final String CHANNEL = "tag:dictionary";
+
+    private static final String UPSERT_SQL = "INSERT INTO tag (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE id = id";
+
+    private final TagRepository tagRepository;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public TagDictionary(TagRepository tagRepository,
+                         NamedParameterJdbcTemplate jdbc,
+                         RedisTemplate<String, String> redisTemplate,
+                         MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.jdbc = jdbc;
+        this.redisTemplate = redisTemplate;
+        Gauge.builder("tag.dictionary.size", ids, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            for (TagEntry e : tagRepository.findAllEntries()) ids.put(e.getName(), e.getId());
+            log.info("[TAG] 태그 사전 적재 완료: {}개", ids.size());
+        } catch (Exception e) {
+            // 비어 있어도 DB 경로로 동작
+            log.warn("태그 사전 적재 실패", e);
+        }
+    }
+
+    /**
+     * 태그 이름 목록 → 연결용 Tag 참조 (엔티티 조회 없음, 없는 이름은 생성).
+     * 이름은 앞뒤 공백을 제거하고, 빈 이름은 건너뛰며, 너무 긴 이름은 잘라 저장하지 않고 거절한다.
+     */
+    @Transactional
+    public Set<Tag> resolve(Collection<String> names) {
+        Set<Tag> result = new HashSet<>();
+        if (names == null || names.isEmpty()) return result;
+
+        Map<String, Long> resolved = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : normalize(names)) {
+            Long id = ids.get(name);
+            if (id != null) resolved.put(name, id);
+            else missing.add(name);
+        }
+        if (!missing.isEmpty()) resolved.putAll(upsert(missing));
+
+        for (Long id : resolved.values()) result.add(em.getReference(Tag.class, id));
+        return result;
+    }
+
+    private static Set<String> normalize(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) continue;
+            String trimmed = name.strip();
+            if (trimmed.codePointCount(0, trimmed.length()) > Tag.NAME_MAX_LENGTH) {
+                throw new BusinessException(ErrorCode.INVALID_TAG_NAME);
+            }
+            normalized.add(trimmed);
+        }
+        return normalized;
+    }
+
+    private Map<String, Long> upsert(List<String> names) {
+        SqlParameterSource[] batch = names.stream()
+                .map(n -> new MapSqlParameterSource().addValue("id", TimeSortedIds.next()).addValue("name", n))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(UPSERT_SQL, batch);
+
+        List<TagEntry> rows = tagRepository.findEntriesForShare(names);
+        Map<String, Long> found = new HashMap<>();
+        for (String name : names) {
+            // 컬레이션상 같은 이름(대소문자 차이 등)이면 이미 있는 row로 수렴
+            rows.stream().filter(r -> r.getName().equals(name)).findFirst()
+                    .or(() -> rows.stream().filter(r -> r.getName().equalsIgnoreCase(name)).findFirst())
+                    .ifPresent(r -> found.put(name, r.getId()));
+        }
+        afterCommit(() -> found.forEach(this::putAndPublish));
+        return found;
+    }
+
+    private void putAndPublish(String name, Long id) {
+        ids.put(name, id);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id + ":" + name);
+        } catch (Exception e) {
+            // 다른 인스턴스는 DB 경로로 처리
+            log.warn("태그 사전 pub/sub 전파 실패: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        if (sep <= 0) return;
+        try {
+            ids.put(body.substring(sep + 1), Long.parseLong(body.substring(0, sep)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 태그 사전 메시지: {}", body);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
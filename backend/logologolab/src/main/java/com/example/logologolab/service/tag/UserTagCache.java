@@ -0,0 +1,111 @@
+package com.example.logologolab.service.tag;
+
+import com.example.logologolab.config.datasource.DataSourceRoute;
+import com.example.logologolab.dto.tag.TagListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 "내가 사용한 태그" 캐시 (Redis).
+ * - 키: tags:user:{userId}:v{version} — 태그 할당/산출물 삭제 시 커밋 후 사용자 버전 키를 INCR 해 무효화
+ * - 무효화 전에 읽기 시작한 요청이 늦게 SET 해도 이전 버전 키에 쓰이므로 새 버전 조회에 섞이지 않음
+ * Redis 장애 시 DB 집계로 대체.
+ */
+@Slf4j
+@Component
+public class UserTagCache {
+
+    private static final String PREFIX = "tags:user:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final Duration ttl;
+    private final Duration versionTtl;
+
+    public UserTagCache(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${tag.user-cache.ttl:PT10M}") Duration ttl,
+            @Value("${tag.user-cache.version-ttl:P1D}") Duration versionTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 호출자의 읽기 전용 트랜잭션이 이미 복제본 연결을 잡았어도 onPrimary가 먹히도록 새 트랜잭션(새 연결)에서 읽는다
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = ttl;
+        this.versionTtl = versionTtl;
+    }
+
+    public TagListResponse get(Long userId, Supplier<TagListResponse> loader) {
+        String key;
+        try {
+            // 버전은 로딩 전에 읽는다 (로딩 중 무효화되면 이 값은 이전 버전 키에 저장됨)
+            key = PREFIX + userId + ":v" + version(userId);
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) return objectMapper.readValue(cached, TagListResponse.class);
+        } catch (Exception e) {
+            log.warn("태그 캐시 조회 실패 (DB로 대체): userId={}, cause={}", userId, e.toString());
+            return loader.get();
+        }
+
+        // 캐시에 넣을 값은 복제 지연 없이 primary에서 읽는다
+        TagListResponse value = DataSourceRoute.onPrimary(() -> readOnlyTx.execute(tx -> loader.get()));
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("태그 캐시 저장 실패: userId={}, cause={}", userId, e.toString());
+        }
+        return value;
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 버전을 올린다 */
+    public void evict(Long userId) {
+        if (userId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    private void bump(Long userId) {
+        try {
+            String versionKey = versionKey(userId);
+            redisTemplate.opsForValue().increment(versionKey);
+            // 버전 키는 캐시 TTL보다 길게 유지 (만료되면 0부터 다시 시작, 그사이 이전 값은 이미 만료)
+            redisTemplate.expire(versionKey, versionTtl);
+        } catch (RuntimeException e) {
+            // 버전을 못 올리면 TTL 만료까지 이전 목록이 보일 수 있음
+            log.warn("태그 캐시 무효화 실패: userId={}, cause={}", userId, e.toString());
+        }
+    }
+
+    private String version(Long userId) {
+        String v = redisTemplate.opsForValue().get(versionKey(userId));
+        return (v == null) ? "0" : v;
+    }
+
+    private static String versionKey(Long userId) {
+        return PREFIX + userId + ":ver";
+    }
+}
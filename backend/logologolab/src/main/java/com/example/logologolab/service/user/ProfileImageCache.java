@@ -0,0 +1,207 @@
+package com.example.logologolab.service.user;
+
+import com.example.logologolab.support.ImageDataUriSupport;
+import com.example.logologolab.support.ImageDataUriSupport.ConditionalFetch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부(소셜) 프로필 이미지 URL → data URI 캐시.
+ * - 전체 크기(data URI 문자 수) 기준으로 제한하는 LRU
+ * - 만료가 가까워지거나 지난 항목은 응답은 캐시 값으로 하고, 백그라운드에서 ETag/Last-Modified로 재검증
+ * - 캐시에 없으면 원격 다운로드를 기다리지 않고 원본 URL을 그대로 반환 (다음 요청부터 data URI)
+ * 요청 스레드에서는 원격 호출을 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProfileImageCache {
+
+    private final long maxWeight;
+    private final long maxImageBytes;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+    private final long failureBackoffMillis;
+
+    /** access-order LinkedHashMap = LRU. weight 합계는 currentWeight로 관리 */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentWeight;
+
+    /** 같은 URL에 대한 중복 로딩 방지 */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    /**
+     * 실패한 URL은 잠시 재시도하지 않음 (url → 재시도 가능 시각).
+     * access-order LRU로 개수를 제한하고, 백오프가 지난 항목은 조회 시 제거한다.
+     */
+    private final LinkedHashMap<String, Long> failures;
+
+    private final ThreadPoolExecutor loader;
+
+    public ProfileImageCache(
+            @Value("${profile-image.cache.max-bytes:33554432}") long maxWeight,
+            @Value("${profile-image.cache.max-image-bytes:1048576}") long maxImageBytes,
+            @Value("${profile-image.cache.ttl:PT1H}") Duration ttl,
+            @Value("${profile-image.cache.refresh-ahead:PT5M}") Duration refreshAhead,
+            @Value("${profile-image.cache.failure-backoff:PT1M}") Duration failureBackoff,
+            @Value("${profile-image.cache.max-failures:1024}") int maxFailures,
+            @Value("${profile-image.cache.loader-threads:2}") int loaderThreads
+    ) {
+        this.maxWeight = maxWeight;
+        this.maxImageBytes = maxImageBytes;
+        this.ttlMillis = ttl.toMillis();
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.failureBackoffMillis = failureBackoff.toMillis();
+        this.failures = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxFailures;
+            }
+        };
+
+        AtomicInteger seq = new AtomicInteger();
+        // 큐가 차면 요청을 버림 → 다음 조회 때 다시 예약됨
+        this.loader = new ThreadPoolExecutor(loaderThreads, loaderThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "profile-image-loader-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        this.loader.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 캐시된 data URI를 반환. 없으면 백그라운드 로딩을 예약하고 원본 URL을 반환한다.
+     */
+    public String resolve(String url) {
+        if (url == null || url.isBlank()) return null;
+        long now = System.currentTimeMillis();
+
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(url);
+        }
+
+        if (e == null) {
+            scheduleLoad(url, null, now);
+            return url;
+        }
+        if (now >= e.expiresAt - refreshAheadMillis) {
+            scheduleLoad(url, e, now);
+        }
+        return e.dataUri;
+    }
+
+    /** 사용자가 프로필 이미지를 바꿨을 때 이전 URL 제거 */
+    public void evict(String url) {
+        if (url == null) return;
+        synchronized (entries) {
+            Entry removed = entries.remove(url);
+            if (removed != null) currentWeight -= removed.weight;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /* ================= loading ================= */
+
+    private void scheduleLoad(String url, Entry current, long now) {
+        if (inBackoff(url, now)) return;
+        if (!inFlight.add(url)) return;
+
+        try {
+            loader.execute(() -> {
+                try {
+                    load(url, current);
+                } finally {
+                    inFlight.remove(url);
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.remove(url);
+        }
+    }
+
+    /** 백오프 중이면 true. 백오프가 지난 항목은 여기서 제거 (TTL = 백오프 시간) */
+    private boolean inBackoff(String url, long now) {
+        synchronized (failures) {
+            Long retryAt = failures.get(url);
+            if (retryAt == null) return false;
+            if (now < retryAt) return true;
+            failures.remove(url);
+            return false;
+        }
+    }
+
+    private void load(String url, Entry current) {
+        try {
+            ConditionalFetch f = ImageDataUriSupport.fetchConditional(url,
+                    current == null ? null : current.etag,
+                    current == null ? 0 : current.lastModified,
+                    maxImageBytes);
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            synchronized (failures) {
+                failures.remove(url);
+            }
+
+            if (f.notModified() && current != null) {
+                // 304: 본문 재전송 없이 만료만 연장
+                put(url, new Entry(current.dataUri, current.etag, current.lastModified, expiresAt));
+            } else if (!f.notModified()) {
+                put(url, new Entry(f.dataUri(), f.etag(), f.lastModified(), expiresAt));
+            }
+        } catch (Exception ex) {
+            synchronized (failures) {
+                failures.put(url, System.currentTimeMillis() + failureBackoffMillis);
+            }
+            log.debug("프로필 이미지 로딩 실패: {} ({})", url, ex.getMessage());
+        }
+    }
+
+    private void put(String url, Entry entry) {
+        if (entry.weight > maxWeight) return;
+        synchronized (entries) {
+            Entry old = entries.put(url, entry);
+            if (old != null) currentWeight -= old.weight;
+            currentWeight += entry.weight;
+
+            var it = entries.entrySet().iterator();
+            while (currentWeight > maxWeight && it.hasNext()) {
+                Entry eldest = it.next().getValue();
+                currentWeight -= eldest.weight;
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final String dataUri;
+        final String etag;
+        final long lastModified;
+        final long expiresAt;
+        final long weight;
+
+        Entry(String dataUri, String etag, long lastModified, long expiresAt) {
+            this.dataUri = dataUri;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.weight = dataUri.length();
+        }
+    }
+}
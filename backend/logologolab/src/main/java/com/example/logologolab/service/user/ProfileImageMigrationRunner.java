@@ -0,0 +1,75 @@
+package com.example.logologolab.service.user;
+
+import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.service.s3.S3DeletionOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * User.profile_image_url에 남아 있는 data URI / base64를 저장소로 옮기고 URL로 바꾸는 1회성 마이그레이션.
+ * profile-image.migration.enabled=true 로 기동했을 때만 실행 (여러 번 돌려도 안전).
+ * 완료 후 User.profileImageUrl 주석의 ALTER TABLE로 컬럼 타입을 줄인다.
+ * profiles/ 가 공개 읽기가 아니면 옮긴 URL이 403이 되므로, 시작 전에 확인하고 실패하면 아무 행도 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profile-image.migration.enabled", havingValue = "true")
+public class ProfileImageMigrationRunner implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final ProfileImageService profileImageService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+
+    @Value("${profile-image.migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${profile-image.migration.verify-public-read:true}")
+    private boolean verifyPublicRead;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (verifyPublicRead && !profileImageService.isPubliclyReadable()) {
+            log.error("profiles/ 객체를 공개 URL로 읽을 수 없어 프로필 이미지 마이그레이션을 중단합니다. "
+                    + "docs/storage.md의 버킷 정책(profiles/*)을 적용한 뒤 다시 실행하세요.");
+            return;
+        }
+
+        long afterId = 0;
+        int migrated = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Long> ids = userRepository.findInlineProfileImageIds(afterId, batchSize);
+            if (ids.isEmpty()) break;
+
+            for (Long id : ids) {
+                afterId = id;
+                try {
+                    // 한 행씩 읽어 메모리에 큰 값이 몰리지 않게 한다
+                    String inline = userRepository.findProfileImageUrlById(id);
+                    if (inline == null || inline.startsWith("http")) continue;
+
+                    String url = profileImageService.toStoredUrl(inline);
+                    if (userRepository.replaceInlineProfileImage(id, url) == 0) {
+                        // 그 사이 사용자가 이미지를 바꿈 → 방금 올린 객체는 정리
+                        s3DeletionOutboxService.enqueue(url);
+                        continue;
+                    }
+                    migrated++;
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("프로필 이미지 마이그레이션 실패 userId={}", id, e);
+                }
+            }
+        }
+        log.info("프로필 이미지 마이그레이션 완료: migrated={}, failed={}", migrated, failed);
+    }
+}
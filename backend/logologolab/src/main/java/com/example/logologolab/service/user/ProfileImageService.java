@@ -0,0 +1,74 @@
+package com.example.logologolab.service.user;
+
+import com.example.logologolab.service.s3.S3DeletionOutboxService;
+import com.example.logologolab.service.s3.S3UploadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 프로필 이미지는 User 행에 base64로 두지 않고 저장소(profiles/)에 올린 뒤 URL만 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileImageService {
+
+    private final S3UploadService s3UploadService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final ProfileImageCache profileImageCache;
+
+    /**
+     * 요청 값 → DB에 저장할 URL.
+     * - http(s) URL: 그대로 (소셜 프로필 등)
+     * - data URI / 순수 base64: 저장소 업로드 후 URL (순수 base64는 jpeg로 간주, 기존 조회 로직과 동일)
+     */
+    public String toStoredUrl(String input) {
+        if (input == null || input.isBlank()) return null;
+        String img = input.trim();
+        if (img.startsWith("http")) return img;
+        if (!img.startsWith("data:")) img = "data:image/jpeg;base64," + img;
+        return s3UploadService.uploadProfileImageAndGetUrl(img);
+    }
+
+    /** toStoredUrl이 저장소 업로드를 하는 입력인지 (http(s) URL은 업로드 없이 그대로 저장) */
+    public boolean requiresUpload(String input) {
+        return input != null && !input.isBlank() && !input.trim().startsWith("http");
+    }
+
+    /**
+     * 트랜잭션 밖에서 미리 올린 이미지: 현재 트랜잭션이 롤백되면 삭제 아웃박스에 기록한다.
+     * 롤백된 트랜잭션에는 쓸 수 없으므로 기록은 별도 트랜잭션에서 한다.
+     */
+    public void releaseOnRollback(String uploadedUrl) {
+        if (uploadedUrl == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    s3DeletionOutboxService.enqueueInNewTransaction(uploadedUrl);
+                }
+            }
+        });
+    }
+
+    /** 더 이상 쓰지 않는 프로필 이미지 정리 (호출한 쪽 트랜잭션에서 삭제 아웃박스에 기록) */
+    public void release(String oldUrl) {
+        if (oldUrl == null) return;
+        if (s3UploadService.isProfileImageUrl(oldUrl)) {
+            s3DeletionOutboxService.enqueue(oldUrl);
+        } else if (oldUrl.startsWith("http")) {
+            profileImageCache.evict(oldUrl);
+        }
+    }
+
+    /** 저장소에 올린 프로필 이미지를 브라우저가 공개 URL로 받을 수 있는지 (버킷 정책 확인) */
+    public boolean isPubliclyReadable() {
+        return s3UploadService.isProfilePrefixPubliclyReadable();
+    }
+
+    /** 우리 저장소에 올라간 이미지면 URL 그대로 응답(브라우저가 직접 받음) */
+    public boolean isStoredUrl(String url) {
+        return s3UploadService.isProfileImageUrl(url);
+    }
+}
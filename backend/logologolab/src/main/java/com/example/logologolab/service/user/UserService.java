@@ -5,10 +5,12 @@ import com.example.logologolab.domain.ProviderType;
 import com.example.logologolab.dto.user.UserUpdateRequest;
 import com.example.logologolab.dto.oauth.OAuthUserInfo;
 import com.example.logologolab.repository.user.UserRepository;
+import com.example.logologolab.security.AuthenticatedUserCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -18,17 +20,21 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ProfileImageService profileImageService;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 일반 회원 가입. 비밀번호 해시는 DB 커넥션을 잡지 않도록 호출 측에서 트랜잭션 밖에서 만든다
+     */
     @Transactional
-    public User registerLocalUser(String email, String plainPassword, String nickname) {
+    public User registerLocalUser(String email, String hashedPassword, String nickname) {
         // 중복 이메일 체크 (LOCAL 사용자만 해당)
         Optional<User> existing = userRepository.findByEmailAndProvider(email, ProviderType.LOCAL);
         if (existing.isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
 
-        String hashedPassword = passwordEncoder.encode(plainPassword);
         User user = User.createLocalUser(email, hashedPassword, nickname);
         return userRepository.save(user);
     }
@@ -57,8 +63,29 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
     }
 
+    /** 로그인 시 cost factor가 바뀐 해시를 새 해시로 교체 */
     @Transactional
+    public void updatePassword(Long userId, String encodedPassword) {
+        userRepository.findById(userId).ifPresent(u -> u.updatePassword(encodedPassword));
+    }
+
+    /**
+     * 프로필 이미지 업로드는 DB 트랜잭션 전에 끝내고(업로드 동안 커넥션을 잡지 않음),
+     * 이후 트랜잭션이 롤백되면 방금 올린 객체를 삭제 아웃박스에 기록해 고아 객체가 남지 않게 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateUser(String email, ProviderType provider, UserUpdateRequest req) {
+        String uploadedImageUrl = profileImageService.requiresUpload(req.getProfileImage())
+                ? profileImageService.toStoredUrl(req.getProfileImage())
+                : null;
+
+        return transactionTemplate.execute(status -> {
+            profileImageService.releaseOnRollback(uploadedImageUrl);
+            return applyUpdate(email, provider, req, uploadedImageUrl);
+        });
+    }
+
+    private User applyUpdate(String email, ProviderType provider, UserUpdateRequest req, String uploadedImageUrl) {
         User user = userRepository.findByEmailAndProvider(email, provider)
                 .orElseThrow(() -> new IllegalArgumentException("회원 정보 없음"));
 
@@ -69,10 +96,12 @@ public class UserService {
 
         // 프로필 이미지
         if (req.getProfileImage() != null && !req.getProfileImage().isBlank()) {
-            String img = req.getProfileImage().trim();
-            // data: 로 시작하면 DB에 그대로 저장
-            // URL이면 그대로 저장(조회 시 Data URI 변환)
-            user.updateProfileImageUrl(img);
+            // data: / base64면 트랜잭션 전에 올려 둔 URL, URL이면 그대로 저장
+            String url = uploadedImageUrl != null ? uploadedImageUrl : req.getProfileImage().trim();
+            if (!url.equals(user.getProfileImageUrl())) {
+                profileImageService.release(user.getProfileImageUrl());
+                user.updateProfileImageUrl(url);
+            }
         }
 
         // 연락처
@@ -83,6 +112,7 @@ public class UserService {
         // 알림 동의(부분 업데이트 허용)
         user.updateNotifications(req.getEmailNoti(), req.getSmsNoti(), req.getNewsLetter());
 
+        authenticatedUserCache.evict(user.getEmail(), user.getProvider());
         return user; // JPA dirty checking
     }
 
@@ -90,6 +120,8 @@ public class UserService {
     public void deleteUserByEmailAndProvider(String email, ProviderType provider) {
         User user = userRepository.findByEmailAndProvider(email, provider)
                 .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
+        profileImageService.release(user.getProfileImageUrl());
         userRepository.delete(user);
+        authenticatedUserCache.evict(email, provider);
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.example.logologolab.support;
+
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 여러 종류 산출물을 합친 목록의 keyset 커서 (createdAt DESC, type DESC, id DESC).
+ * 종류마다 id가 따로 증가하므로 createdAt이 같을 때 type으로 순서를 고정한다.
+ */
+public record AssetCursor(OffsetDateTime createdAt, AssetType type, long id) {
+
+    public String encode() {
+        Instant t = createdAt.toInstant();
+        String raw = t.getEpochSecond() + "." + t.getNano() + "." + type.name() + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static AssetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\.");
+            if (parts.length != 4) throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            Instant t = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new AssetCursor(OffsetDateTime.ofInstant(t, ZoneOffset.UTC), AssetType.valueOf(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 주어진 종류의 행 중 이 커서 "다음"에 오는 행의 (createdAt, id) 경계.
+     * 종류별 쿼리는 (createdAt < c) OR (createdAt = c AND id < boundId) 하나로 처리한다.
+     * - ordinal이 작은 종류(정렬상 뒤): createdAt이 같으면 모두 다음 → id 경계 최대값
+     * - 같은 종류: id로 비교
+     * - ordinal이 큰 종류(정렬상 앞): createdAt이 같으면 이미 지나감 → id 경계 최소값
+     */
+    public long boundIdFor(AssetType other) {
+        int cmp = Integer.compare(other.ordinal(), type.ordinal());
+        if (cmp < 0) return Long.MAX_VALUE;
+        if (cmp == 0) return id;
+        return Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.logologolab.support;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 해시 digest(SHA-256 등 16바이트 이상) 전용 Bloom filter.
+ * 입력이 이미 균일 분포이므로 앞 16바이트를 두 개의 long으로 잘라 double hashing(h1 + i*h2)으로 k개 위치를 만든다.
+ * add / mightContain 모두 lock-free.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+    }
+
+    /** 예상 원소 수 n, 목표 오탐률 p에 맞춰 m = -n·ln(p)/ln(2)², k = m/n·ln(2) 로 생성 */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(Math.max(64, m), k);
+    }
+
+    public void add(byte[] digest) {
+        long h1 = h1(digest);
+        long h2 = h2(digest);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            setBit(bit);
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long h1 = h1(digest);
+        long h2 = h2(digest);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long bitCount() { return bitCount; }
+    public int hashFunctions() { return hashFunctions; }
+    public long insertions() { return insertions.get(); }
+
+    /** 현재 삽입 수 기준 오탐률 추정치 (1 - e^(-kn/m))^k */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.get() / bitCount), hashFunctions);
+    }
+
+    private void setBit(long bit) {
+        int idx = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long old;
+        do {
+            old = words.get(idx);
+            if ((old & mask) != 0) return;
+        } while (!words.compareAndSet(idx, old, old | mask));
+    }
+
+    private static long h1(byte[] digest) {
+        return ByteBuffer.wrap(digest, 0, 8).getLong();
+    }
+
+    private static long h2(byte[] digest) {
+        return ByteBuffer.wrap(digest, 8, 8).getLong() | 1L; // 홀수로 만들어 같은 위치 반복 방지
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.logologolab.support;
+
+import java.util.regex.Pattern;
+
+/**
+ * 목록 카드용 요약 문자열.
+ * 저장 시점에 한 번 계산해 짧은 컬럼에 넣어 두고, 목록 쿼리는 TEXT 컬럼 대신 이것만 읽는다.
+ */
+public final class Excerpts {
+
+    public static final int BRIEF_MAX = 200;
+    public static final int MARKDOWN_MAX = 300;
+
+    private static final Pattern LINK = Pattern.compile("!?\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern RULE = Pattern.compile("(?m)^\\s*([-*_]\\s*){3,}$");
+    private static final Pattern LINE_MARKER = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern INLINE_MARKER = Pattern.compile("[*_`~|]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private Excerpts() {}
+
+    /** 공백을 한 칸으로 합치고 max 글자(코드포인트)로 자른다 */
+    public static String of(String text, int max) {
+        if (text == null) return null;
+        return truncate(WHITESPACE.matcher(text).replaceAll(" ").trim(), max);
+    }
+
+    /** 마크다운 기호(제목, 목록, 강조, 링크, 표 구분자)를 걷어낸 뒤 요약 */
+    public static String ofMarkdown(String markdown, int max) {
+        if (markdown == null) return null;
+        String s = LINK.matcher(markdown).replaceAll("$1");
+        s = RULE.matcher(s).replaceAll(" ");
+        s = LINE_MARKER.matcher(s).replaceAll("");
+        s = INLINE_MARKER.matcher(s).replaceAll("");
+        return of(s, max);
+    }
+
+    private static String truncate(String s, int max) {
+        if (s.codePointCount(0, s.length()) <= max) return s;
+        int end = s.offsetByCodePoints(0, max - 1);
+        return s.substring(0, end).stripTrailing() + "…";
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.logologolab.support;
+
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 공개 피드 keyset 페이지네이션 커서 (createdAt DESC, id DESC).
+ * 클라이언트에는 "epochSecond.nano.id"를 base64url로 감싼 불투명 문자열로만 노출한다.
+ */
+public record FeedCursor(OffsetDateTime createdAt, long id) {
+
+    public static final int DEFAULT_SIZE = 12;
+    public static final int MAX_SIZE = 50;
+
+    public static FeedCursor of(OffsetDateTime createdAt, Long id) {
+        return new FeedCursor(createdAt, id);
+    }
+
+    public String encode() {
+        Instant t = createdAt.toInstant();
+        String raw = t.getEpochSecond() + "." + t.getNano() + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** null/빈 문자열이면 첫 페이지(null), 형식이 잘못되면 400 */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\.");
+            if (parts.length != 3) throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            Instant t = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new FeedCursor(OffsetDateTime.ofInstant(t, ZoneOffset.UTC), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static int clampSize(int size) {
+        if (size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.logologolab.support;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.Base64;
@@ -30,6 +32,53 @@ public final class ImageDataUriSupport {
         }
     }
 
+    /**
+     * 조건부 GET. etag/lastModified가 있으면 If-None-Match/If-Modified-Since를 실어 보내고,
+     * 304면 notModified=true, 200이면 새 data URI와 검증자(ETag, Last-Modified)를 담아 반환.
+     * maxBytes를 넘는 이미지는 IOException
+     */
+    public static ConditionalFetch fetchConditional(String url, String etag, long lastModified, long maxBytes) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setConnectTimeout(2000);
+        conn.setReadTimeout(3000);
+        if (etag != null) conn.setRequestProperty("If-None-Match", etag);
+        if (lastModified > 0) conn.setIfModifiedSince(lastModified);
+
+        try {
+            int status = conn.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return new ConditionalFetch(true, null, 0, etag, lastModified);
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("profile image fetch failed: HTTP " + status);
+            }
+            if (conn.getContentLengthLong() > maxBytes) {
+                throw new IOException("profile image too large: " + conn.getContentLengthLong());
+            }
+            try (InputStream in = conn.getInputStream()) {
+                byte[] bytes = in.readNBytes((int) Math.min(Integer.MAX_VALUE, maxBytes + 1));
+                if (bytes.length > maxBytes) throw new IOException("profile image too large");
+
+                String mime = conn.getContentType();
+                if (mime == null || !mime.startsWith("image/")) mime = guessMime(url, bytes);
+                else mime = mime.split(";")[0].trim();
+
+                String dataUri = "data:" + mime + ";base64," + Base64.getEncoder().encodeToString(bytes);
+                return new ConditionalFetch(false, dataUri, bytes.length, conn.getHeaderField("ETag"), conn.getLastModified());
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    public record ConditionalFetch(
+            boolean notModified,
+            String dataUri,   // notModified면 null
+            int imageBytes,
+            String etag,
+            long lastModified // 0 = 없음
+    ) {}
+
     private static String guessMime(String url, byte[] bytes) {
         String lower = url.toLowerCase();
         if (lower.endsWith(".svg"))  return "image/svg+xml";
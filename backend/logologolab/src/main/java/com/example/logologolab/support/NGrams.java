@@ -0,0 +1,52 @@
+package com.example.logologolab.support;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 문자 n-gram 토크나이저 (한국어 형태소 분석 없이 조사/어미 변화에 강하도록 bigram 사용).
+ * - NFKC 정규화 + 소문자화 후 글자/숫자가 아닌 문자로 토큰 분리
+ * - 문서({@link #of}): 토큰마다 2-gram 전부 + 첫 글자 1-gram (한 글자 검색어는 "그 글자로 시작하는 단어"로 매칭)
+ * - 검색어({@link #ofQuery}): 2-gram만, 한 글자 토큰일 때만 1-gram → "로고"가 "카페로고"처럼 단어 중간에서도 매칭
+ */
+public final class NGrams {
+
+    private NGrams() {}
+
+    /** 색인할 문서의 n-gram */
+    public static Set<String> of(String text) {
+        return grams(text, true);
+    }
+
+    /** 검색어의 n-gram (모든 gram을 포함한 문서만 매칭되므로 첫 글자 1-gram은 넣지 않음) */
+    public static Set<String> ofQuery(String text) {
+        return grams(text, false);
+    }
+
+    private static Set<String> grams(String text, boolean leadingUnigram) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) return grams;
+
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] cps = s.codePoints().toArray();
+        int start = -1;
+        for (int i = 0; i <= cps.length; i++) {
+            boolean word = i < cps.length && Character.isLetterOrDigit(cps[i]);
+            if (word && start < 0) start = i;
+            if (!word && start >= 0) {
+                addToken(cps, start, i, leadingUnigram, grams);
+                start = -1;
+            }
+        }
+        return grams;
+    }
+
+    private static void addToken(int[] cps, int from, int to, boolean leadingUnigram, Set<String> grams) {
+        if (leadingUnigram || to - from == 1) grams.add(new String(cps, from, 1));
+        for (int i = from; i + 1 < to; i++) {
+            grams.add(new String(cps, i, 2));
+        }
+    }
+}
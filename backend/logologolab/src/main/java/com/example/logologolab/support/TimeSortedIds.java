@@ -0,0 +1,64 @@
+package com.example.logologolab.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * 시간순 정렬 가능한 53bit ID 생성기 (snowflake 변형).
+ * <pre>
+ *  [ 41bit: EPOCH 이후 ms ][ 5bit: 노드 ][ 7bit: 시퀀스 ]
+ * </pre>
+ * - 53bit 이내라 프론트(JS Number)에서도 정밀도 손실 없음
+ * - 노드당 ms당 128개, 약 69년 사용 가능
+ * - 시계가 뒤로 가면 마지막 시각을 그대로 쓰고, 시퀀스가 넘치면 다음 ms를 미리 빌려 씀 (대기 없이 단조 증가)
+ * - 기존 AUTO_INCREMENT 값보다 항상 크므로 (created_at, id) 정렬이 유지됨
+ * - 노드 ID가 겹치면 같은 ms에 같은 ID가 나올 수 있으므로 반드시 명시적으로 지정 (미지정 시 생성 거부)
+ */
+@Slf4j
+public final class TimeSortedIds {
+
+    /** 2025-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile int nodeId = -1;
+    private static long lastMillis = -1L;
+    private static long sequence = 0L;
+
+    private TimeSortedIds() {}
+
+    /** 인스턴스별 노드 ID 지정 (0~31) */
+    public static void configure(int node) {
+        if (node < 0 || node > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + node);
+        }
+        nodeId = node;
+        log.info("[ID] time-sorted id node={}", nodeId);
+    }
+
+    public static synchronized long next() {
+        if (nodeId < 0) throw new IllegalStateException("TimeSortedIds 노드 ID가 설정되지 않았습니다 (id.generator.node-id)");
+
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0L;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0L) lastMillis++; // ms당 한도 초과 → 다음 ms를 빌려 씀
+        }
+        return (lastMillis << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /** ID에 담긴 생성 시각 (디버깅/데이터 점검용) */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -3,7 +3,7 @@ package com.example.logologolab;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "id.generator.node-id=0")
 class LogologolabApplicationTests {
 
 	@Test
@@ -0,0 +1,212 @@
+package com.example.logologolab.config.datasource;
+
+import com.example.logologolab.domain.ProviderType;
+import com.example.logologolab.domain.RoleType;
+import com.example.logologolab.domain.Tag;
+import com.example.logologolab.security.CustomUserPrincipal;
+import com.example.logologolab.support.TimeSortedIds;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary/replica)로 읽기/쓰기 라우팅 검증.
+ * open-in-view처럼 요청 동안 EntityManager를 열어 둔 채 읽기 전용 트랜잭션 → 쓰기 트랜잭션 순서로 실행해,
+ * 첫 트랜잭션이 잡은 복제본 연결이 쓰기에 재사용되지 않는지 확인한다.
+ * 복제 지연 초과 시 primary 대체, read-your-writes, onPrimary + REQUIRES_NEW 조합도 함께 확인한다.
+ * 각 DB에는 db_marker 테이블로 자기 이름을 넣어 두고, 스키마(ddl-auto)는 primary에만 생성된다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1;MODE=MySQL;NON_KEYWORDS=USER;"
+                + "INIT=CREATE TABLE IF NOT EXISTS db_marker AS SELECT 'primary' AS name",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0",
+        "datasource.replica.enabled=true",
+        "datasource.replica.urls=jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1;MODE=MySQL;"
+                + "INIT=CREATE TABLE IF NOT EXISTS db_marker AS SELECT 'replica' AS name",
+        "datasource.replica.lag-query=SELECT 0",
+        "datasource.replica.read-your-writes.shared=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaDataSourceConfig.class, ReplicaRoutingTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaPools pools;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 트랜잭션마다_연결을_반납한다() {
+        assertThat(String.valueOf(emf.getProperties().get("hibernate.connection.handling_mode")))
+                .isEqualTo("DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    @Test
+    void 같은_요청에서_읽기_뒤의_쓰기는_primary로_간다() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        TransactionTemplate writeTx = new TransactionTemplate(transactionManager);
+
+        // OpenEntityManagerInViewInterceptor와 같은 방식으로 요청 범위 EntityManager를 바인딩
+        EntityManager em = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(em));
+        String readFrom;
+        String writeFrom;
+        try {
+            readFrom = readOnlyTx.execute(status -> marker(em));
+            writeFrom = writeTx.execute(status -> {
+                String m = marker(em);
+                em.persist(new Tag("routed-write"));
+                return m;
+            });
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            em.close();
+        }
+
+        assertThat(readFrom).isEqualTo("replica");
+        assertThat(writeFrom).isEqualTo("primary");
+        Integer saved = new JdbcTemplate(pools.primary())
+                .queryForObject("SELECT COUNT(*) FROM tag WHERE name = 'routed-write'", Integer.class);
+        assertThat(saved).isEqualTo(1);
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_읽기도_primary로_간다() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(null, Duration.ofSeconds(5));
+        // 복제본이 10초 뒤처진 것으로 보고, 허용치는 1초
+        ReplicaLagMonitor lagging = new ReplicaLagMonitor(pools.replicaDataSources(), "SELECT 10", 1, tracker, meterRegistry);
+        ReplicaLagMonitor healthy = new ReplicaLagMonitor(pools.replicaDataSources(), "SELECT 0", 1, tracker, meterRegistry);
+
+        assertThat(lagging.healthyReplicas()).isEmpty();
+        assertThat(healthy.healthyReplicas()).containsExactlyElementsOf(pools.replicas().keySet());
+
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        assertThat(readOnlyTx.execute(status -> marker(routing(lagging, tracker)))).isEqualTo("primary");
+        assertThat(readOnlyTx.execute(status -> marker(routing(healthy, tracker)))).isEqualTo("replica");
+    }
+
+    @Test
+    void 쓴_사용자의_직후_읽기는_primary로_가고_다른_사용자는_복제본을_읽는다() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        TransactionTemplate writeTx = new TransactionTemplate(transactionManager);
+        EntityManager em = SharedEntityManagerCreator.createSharedEntityManager(emf);
+
+        try {
+            authenticate(101L, "writer@example.com");
+            String beforeWrite = readOnlyTx.execute(status -> marker(em));
+            writeTx.execute(status -> {
+                marker(em);
+                em.persist(new Tag("sticky-write"));
+                return null;
+            });
+            String afterWrite = readOnlyTx.execute(status -> marker(em));
+
+            authenticate(202L, "reader@example.com");
+            String otherUser = readOnlyTx.execute(status -> marker(em));
+
+            assertThat(beforeWrite).isEqualTo("replica");
+            assertThat(afterWrite).isEqualTo("primary");
+            assertThat(otherUser).isEqualTo("replica");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void 복제본_연결을_잡은_읽기_트랜잭션_안에서도_onPrimary_새_트랜잭션은_primary를_읽는다() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        TransactionTemplate newReadOnlyTx = new TransactionTemplate(transactionManager);
+        newReadOnlyTx.setReadOnly(true);
+        newReadOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        EntityManager em = SharedEntityManagerCreator.createSharedEntityManager(emf);
+
+        List<String> reads = readOnlyTx.execute(status -> {
+            String outer = marker(em); // 바깥 트랜잭션이 복제본 연결을 먼저 잡음
+            String cached = DataSourceRoute.onPrimary(() -> newReadOnlyTx.execute(tx -> marker(em)));
+            String sameTx = DataSourceRoute.onPrimary(() -> marker(em)); // 새 트랜잭션 없이는 이미 잡은 연결 그대로
+            return List.of(outer, cached, sameTx);
+        });
+
+        assertThat(reads).containsExactly("replica", "primary", "replica");
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker tracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor, tracker, meterRegistry);
+        routing.setTargetDataSources(pools.targets());
+        routing.setDefaultTargetDataSource(pools.primary());
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static String marker(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_marker", String.class);
+    }
+
+    private static void authenticate(Long userId, String email) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, email, ProviderType.LOCAL, RoleType.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static String marker(EntityManager em) {
+        return (String) em.createNativeQuery("SELECT name FROM db_marker").getSingleResult();
+    }
+}
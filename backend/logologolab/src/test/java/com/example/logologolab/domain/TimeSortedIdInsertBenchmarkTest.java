@@ -0,0 +1,91 @@
+package com.example.logologolab.domain;
+
+import com.example.logologolab.support.TimeSortedIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간순 ID insert 처리량 벤치마크 (H2, Tag 엔티티).
+ * - IDENTITY는 insert마다 생성 키를 받아야 해서 배치가 꺼지므로, 같은 엔티티를 JDBC 배치 크기 1로 넣어 비교 기준으로 삼는다
+ * - 시간은 환경마다 달라 로그로만 남기고, 검증은 준비된 문장 수(= DB 왕복 수)로 한다
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:id-benchmark;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TimeSortedIdInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int BATCH_SIZE = 50; // application.yml hibernate.jdbc.batch_size
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 시간순_ID는_insert를_배치로_묶는다() {
+        insert("warmup-", 500, BATCH_SIZE);
+
+        Run single = insert("single-", ROWS, 1);
+        Run batched = insert("batched-", ROWS, BATCH_SIZE);
+
+        log.info("[BENCH] insert {} rows: batch=1 {} stmts {} rows/s, batch={} {} stmts {} rows/s",
+                ROWS, single.statements, single.rowsPerSecond(), BATCH_SIZE, batched.statements, batched.rowsPerSecond());
+
+        assertThat(single.statements).isGreaterThanOrEqualTo(ROWS);
+        assertThat(batched.statements).isLessThanOrEqualTo(ROWS / BATCH_SIZE + 1);
+    }
+
+    private Run insert(String prefix, int rows, int batchSize) {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        Session session = em.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        stats.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            em.persist(new Tag(prefix + i));
+            if ((i + 1) % BATCH_SIZE == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        long elapsed = System.nanoTime() - start;
+
+        session.setJdbcBatchSize(null);
+        return new Run(rows, stats.getPrepareStatementCount(), elapsed);
+    }
+
+    private record Run(int rows, long statements, long nanos) {
+        long rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1_000_000_000L / nanos;
+        }
+    }
+}
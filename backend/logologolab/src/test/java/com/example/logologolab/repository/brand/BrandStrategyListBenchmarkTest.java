@@ -0,0 +1,156 @@
+package com.example.logologolab.repository.brand;
+
+import com.example.logologolab.domain.*;
+import com.example.logologolab.dto.brand.BrandStrategyListItem;
+import com.example.logologolab.support.CountingDataSource;
+import com.example.logologolab.support.TimeSortedIds;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 페이지(12건/100건) 벤치마크: 엔티티 페이지 vs 카드 전용 DTO projection (H2, BrandStrategy).
+ * - 본문(markdown)이 긴 행일수록 엔티티 페이지는 페이지 크기 × 본문 길이만큼 읽고 직렬화한다
+ * - 시간은 환경마다 달라 로그로만 남기고, 검증은 문장 수 / 엔티티 로딩 수 / 응답 문자 수로 한다
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:list-benchmark;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BrandStrategyListBenchmarkTest.CountingConfig.class)
+class BrandStrategyListBenchmarkTest {
+
+    private static final int ROWS = 120;
+    private static final int MARKDOWN_CHARS = 20_000;
+    private static final int ROUNDS = 20;
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        CountingDataSource countingDataSource() {
+            return new CountingDataSource();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(CountingDataSource counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource ds) ? counter.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private BrandStrategyRepository brandStrategyRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private CountingDataSource counter;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 카드_projection은_페이지_크기와_무관하게_본문을_읽지_않는다() {
+        User owner = em.persist(User.createLocalUser("bench@example.com", "hash", "owner"));
+        String body = "## 브랜드 전략\n\n" + "- **핵심 메시지**와 톤앤매너 설명 문장. ".repeat(MARKDOWN_CHARS / 30);
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(BrandStrategy.builder()
+                    .briefKo("브리프 " + i).style(Style.minimal).caseType(CaseType.WITHOUT_LOGO)
+                    .markdown(body).createdBy(owner).build());
+        }
+        em.flush();
+        em.clear();
+
+        for (int size : new int[]{12, 100}) {
+            PageRequest page = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            Run entities = measure(() -> {
+                Page<BrandStrategy> p = brandStrategyRepository.findByCreatedBy(owner, page);
+                return p.getContent().stream()
+                        .mapToLong(b -> b.getBriefKo().length() + b.getMarkdown().length())
+                        .sum();
+            });
+            Run items = measure(() -> {
+                Page<BrandStrategyListItem> p = brandStrategyRepository.findItemsByCreatedBy(owner, page);
+                return p.getContent().stream()
+                        .mapToLong(b -> b.briefExcerpt().length() + b.excerpt().length())
+                        .sum();
+            });
+
+            log.info("[BENCH] page={} entity: {} stmts {} entities {} chars {} us/page, projection: {} stmts {} entities {} chars {} us/page",
+                    size, entities.statements, entities.entityLoads, entities.chars, entities.microsPerPage(),
+                    items.statements, items.entityLoads, items.chars, items.microsPerPage());
+
+            // 두 방식 모두 SELECT + COUNT 2문장
+            assertThat(entities.statements).isEqualTo(2);
+            assertThat(items.statements).isEqualTo(2);
+            assertThat(entities.entityLoads).isEqualTo(size);
+            assertThat(items.entityLoads).isZero();
+            // 카드 요약(최대 200 + 300자)만 읽으므로 본문 약 2만 자짜리 엔티티 대비 5% 미만
+            assertThat(items.chars).isLessThanOrEqualTo(500L * size);
+            assertThat(items.chars * 20).isLessThan(entities.chars);
+        }
+    }
+
+    /** 워밍업 후 ROUNDS번 실행. 문장/엔티티 수는 마지막 1회 기준 */
+    private Run measure(Supplier<Long> pageLoader) {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < 3; i++) {
+            pageLoader.get();
+            em.clear();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS - 1; i++) {
+            pageLoader.get();
+            em.clear();
+        }
+        stats.clear();
+        counter.reset();
+        long chars = pageLoader.get();
+        em.clear();
+        long elapsed = System.nanoTime() - start;
+
+        return new Run(counter.statements(), stats.getEntityLoadCount(), chars, elapsed / ROUNDS);
+    }
+
+    private record Run(long statements, long entityLoads, long chars, long nanosPerPage) {
+        long microsPerPage() {
+            return nanosPerPage / 1_000;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.logologolab.security;
+
+import com.example.logologolab.domain.ProviderType;
+import com.example.logologolab.domain.RoleType;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 JWT 검증 비용 벤치마크.
+ * - 필터별 검증: validateToken + getEmail/getProvider/getRole 이 각각 파싱 (이전 필터 방식, 캐시 없음)
+ * - 1회 검증: getVerifiedClaims 한 번 (캐시 없음)
+ * - 1회 검증 + Claims 캐시: 같은 토큰의 반복 요청은 서명 검증 생략
+ * 시간은 환경마다 달라 로그로만 남기고, 검증은 서명 검증 횟수(캐시 put 호출 수)로 한다
+ */
+@Slf4j
+class JwtVerificationBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final String SECRET = "6JH2ZOW311lZxgNpgNRph6utq8RSQ/YZoJnlmZ8dK5s=";
+
+    @Test
+    void 요청당_서명_검증은_한_번이고_캐시가_있으면_반복_요청은_생략된다() {
+        Run perFilter = run(0, provider -> {
+            String token = provider.token;
+            assertThat(provider.jwt.validateToken(token)).isTrue();
+            provider.jwt.getEmail(token);
+            provider.jwt.getProvider(token);
+            provider.jwt.getRole(token);
+        });
+        Run verifyOnce = run(0, provider -> {
+            Claims claims = provider.jwt.getVerifiedClaims(provider.token);
+            assertThat(claims.getSubject()).isEqualTo("bench@example.com");
+        });
+        Run cached = run(10_000, provider -> {
+            Claims claims = provider.jwt.getVerifiedClaims(provider.token);
+            assertThat(claims.get("role", String.class)).isEqualTo("USER");
+        });
+
+        log.info("[BENCH] {} requests: per-filter {} verifications {} req/s, verify-once {} verifications {} req/s, "
+                        + "verify-once+cache {} verifications {} req/s",
+                REQUESTS, perFilter.verifications, perFilter.requestsPerSecond(),
+                verifyOnce.verifications, verifyOnce.requestsPerSecond(),
+                cached.verifications, cached.requestsPerSecond());
+
+        assertThat(perFilter.verifications).isEqualTo(4L * REQUESTS);
+        assertThat(verifyOnce.verifications).isEqualTo(REQUESTS);
+        assertThat(cached.verifications).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시된_Claims는_evict_후_다시_검증한다() {
+        Bench bench = new Bench(10_000);
+        Claims first = bench.jwt.getVerifiedClaims(bench.token);
+        assertThat(bench.jwt.getVerifiedClaims(bench.token)).isSameAs(first);
+
+        bench.cache.evict(bench.token);
+        assertThat(bench.jwt.getVerifiedClaims(bench.token)).isNotSameAs(first);
+        assertThat(bench.cache.verifications).isEqualTo(2);
+    }
+
+    @Test
+    void 서명이_틀린_토큰은_캐시되지_않는다() {
+        Bench bench = new Bench(10_000);
+        String tampered = bench.token.substring(0, bench.token.length() - 2) + "xx";
+
+        assertThat(bench.jwt.getVerifiedClaims(tampered)).isNull();
+        assertThat(bench.jwt.getVerifiedClaims(tampered)).isNull();
+        assertThat(bench.cache.verifications).isZero();
+    }
+
+    private Run run(int cacheEntries, Consumer<Bench> request) {
+        Bench warmup = new Bench(cacheEntries);
+        for (int i = 0; i < 1_000; i++) request.accept(warmup);
+
+        Bench bench = new Bench(cacheEntries);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) request.accept(bench);
+        long elapsed = System.nanoTime() - start;
+        return new Run(REQUESTS, bench.cache.verifications, elapsed);
+    }
+
+    /** 서명 검증을 통과할 때마다 호출되는 put을 세는 캐시 (max-entries 0이면 저장하지 않음) */
+    private static final class CountingClaimsCache extends VerifiedClaimsCache {
+        long verifications;
+
+        CountingClaimsCache(int maxEntries) {
+            ReflectionTestUtils.setField(this, "maxEntries", maxEntries);
+        }
+
+        @Override
+        public void put(String token, Claims claims) {
+            verifications++;
+            super.put(token, claims);
+        }
+    }
+
+    private static final class Bench {
+        final CountingClaimsCache cache;
+        final JwtTokenProvider jwt;
+        final String token;
+
+        Bench(int cacheEntries) {
+            cache = new CountingClaimsCache(cacheEntries);
+            jwt = new JwtTokenProvider(cache);
+            ReflectionTestUtils.setField(jwt, "SECRET_KEY", SECRET);
+            ReflectionTestUtils.setField(jwt, "ACCESS_TOKEN_EXPIRATION", 3_600_000L);
+            ReflectionTestUtils.setField(jwt, "REFRESH_TOKEN_EXPIRATION", 3_600_000L);
+            token = jwt.createAccessToken(1L, "bench@example.com", ProviderType.LOCAL, RoleType.USER);
+        }
+    }
+
+    private record Run(int requests, long verifications, long nanos) {
+        long requestsPerSecond() {
+            return nanos == 0 ? 0 : requests * 1_000_000_000L / nanos;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.logologolab.service.feed;
+
+import com.example.logologolab.domain.*;
+import com.example.logologolab.support.CountingDataSource;
+import com.example.logologolab.support.Excerpts;
+import com.example.logologolab.support.TimeSortedIds;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 요약 백필 회귀 테스트.
+ * 요약 컬럼만 batch UPDATE 하므로 updated_at/row_version은 그대로이고,
+ * 페이지마다 projection 조회 1회 + batch UPDATE 1회만 나가야 한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:excerpt-backfill;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0",
+        "list-excerpt.backfill.batch-size=8"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ListExcerptBackfillRunner.class, ListExcerptBackfillRunnerTest.CountingConfig.class})
+class ListExcerptBackfillRunnerTest {
+
+    private static final int ROWS = 20;          // batch-size 8 → 8 + 8 + 4 + 빈 페이지
+    private static final int PAGES = 3;
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        CountingDataSource countingDataSource() {
+            return new CountingDataSource();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(CountingDataSource counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource ds) ? counter.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private ListExcerptBackfillRunner runner;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CountingDataSource counter;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 요약_컬럼만_채우고_수정_시각과_버전은_그대로다() {
+        User owner = em.persist(User.createLocalUser("backfill@example.com", "hash", "owner"));
+        List<String> markdowns = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            String markdown = "## 전략 " + i + "\n\n" + "- **핵심** [링크](https://example.com/" + i + ") 문장입니다. ".repeat(200);
+            markdowns.add(markdown);
+            em.persist(BrandStrategy.builder()
+                    .briefKo("브리프   " + i + " ".repeat(10) + "내용".repeat(150)).style(Style.minimal)
+                    .caseType(CaseType.WITHOUT_LOGO).markdown(markdown).createdBy(owner).build());
+            em.persist(ColorGuide.builder()
+                    .briefKo("가이드 " + i + "\n" + "색".repeat(300)).style(Style.minimal)
+                    .caseType(CaseType.WITHOUT_LOGO).createdBy(owner).build());
+        }
+        em.flush();
+        em.clear();
+
+        // 요약 컬럼 추가 이전에 저장된 행 재현
+        jdbcTemplate.update("UPDATE brand_strategy SET brief_excerpt = NULL, excerpt = NULL");
+        jdbcTemplate.update("UPDATE color_guide SET brief_excerpt = NULL");
+        List<Map<String, Object>> brandVersions = versions("brand_strategy");
+        List<Map<String, Object>> colorVersions = versions("color_guide");
+        counter.reset();
+
+        runner.run(null);
+
+        // 타입별: projection 조회 (PAGES + 빈 페이지 1) + batch UPDATE PAGES
+        assertThat(counter.statements()).isEqualTo(2L * (PAGES + 1 + PAGES));
+
+        assertThat(versions("brand_strategy")).isEqualTo(brandVersions);
+        assertThat(versions("color_guide")).isEqualTo(colorVersions);
+
+        List<Map<String, Object>> brands = jdbcTemplate.queryForList(
+                "SELECT brief_ko, markdown, brief_excerpt, excerpt FROM brand_strategy ORDER BY id");
+        assertThat(brands).hasSize(ROWS);
+        for (Map<String, Object> row : brands) {
+            assertThat(row.get("BRIEF_EXCERPT")).isEqualTo(Excerpts.of((String) row.get("BRIEF_KO"), Excerpts.BRIEF_MAX));
+            assertThat(row.get("EXCERPT")).isEqualTo(Excerpts.ofMarkdown((String) row.get("MARKDOWN"), Excerpts.MARKDOWN_MAX));
+        }
+        assertThat(brands).extracting(r -> r.get("MARKDOWN")).containsExactlyElementsOf(markdowns);
+
+        List<Map<String, Object>> colors = jdbcTemplate.queryForList(
+                "SELECT brief_ko, brief_excerpt FROM color_guide ORDER BY id");
+        for (Map<String, Object> row : colors) {
+            assertThat(row.get("BRIEF_EXCERPT")).isEqualTo(Excerpts.of((String) row.get("BRIEF_KO"), Excerpts.BRIEF_MAX));
+        }
+    }
+
+    @Test
+    void 채울_행이_없으면_조회만_한_번씩_한다() {
+        User owner = em.persist(User.createLocalUser("filled@example.com", "hash", "owner"));
+        em.persist(BrandStrategy.builder()
+                .briefKo("이미 요약 있음").style(Style.minimal).caseType(CaseType.WITHOUT_LOGO)
+                .markdown("# 본문").createdBy(owner).build());
+        em.flush();
+        em.clear();
+        counter.reset();
+
+        runner.run(null);
+
+        assertThat(counter.statements()).isEqualTo(2);
+    }
+
+    private List<Map<String, Object>> versions(String table) {
+        return jdbcTemplate.queryForList("SELECT id, updated_at, row_version FROM " + table + " ORDER BY id");
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.logologolab.service.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PngImageOptimizerTest {
+
+    private PngImageOptimizer optimizer;
+
+    @BeforeEach
+    void setUp() {
+        optimizer = new PngImageOptimizer();
+        ReflectionTestUtils.setField(optimizer, "paletteReduction", true);
+    }
+
+    @Test
+    void 색상이_적은_RGBA는_픽셀을_유지한_채_줄어든다() throws IOException {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        int[] colors = {0xFFFF0000, 0xFF00FF00, 0x800000FF, 0x00000000};
+        for (int y = 0; y < 64; y++) {
+            for (int x = 0; x < 64; x++) {
+                image.setRGB(x, y, colors[(x * 7 + y * 3) % colors.length]);
+            }
+        }
+        byte[] original = write(image);
+
+        OptimizedImage result = optimizer.optimize(original, "image/png");
+
+        assertThat(result.bytes().length).isLessThan(original.length);
+        assertThat(pixels(result.bytes())).isEqualTo(pixels(original));
+    }
+
+    @Test
+    void 비트_깊이가_8을_넘으면_원본을_유지한다() throws IOException {
+        BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_USHORT_GRAY);
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 32; x++) {
+                image.getRaster().setSample(x, y, 0, (x * 32 + y) * 61);
+            }
+        }
+        byte[] original = write(image);
+
+        OptimizedImage result = optimizer.optimize(original, "image/png");
+
+        assertThat(result.bytes()).isSameAs(original);
+        assertThat(result.savedBytes()).isZero();
+    }
+
+    @Test
+    void 색_관리_청크가_있으면_원본을_유지한다() throws IOException {
+        BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        byte[] original = withChunk(write(image), "gAMA", new byte[]{0, 0, (byte) 0xB1, (byte) 0x8F});
+
+        OptimizedImage result = optimizer.optimize(original, "image/png");
+
+        assertThat(result.bytes()).isSameAs(original);
+    }
+
+    @Test
+    void 헤더_파싱() throws IOException {
+        byte[] png = write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB));
+
+        PngImageOptimizer.Header header = PngImageOptimizer.Header.parse(png);
+
+        assertThat(header).isNotNull();
+        assertThat(header.bitDepth()).isEqualTo(8);
+        assertThat(header.colorType()).isEqualTo(6);
+        assertThat(header.colorManaged()).isFalse();
+        assertThat(PngImageOptimizer.Header.parse("not a png".getBytes(StandardCharsets.US_ASCII))).isNull();
+        assertThat(PngImageOptimizer.Header.parse(java.util.Arrays.copyOf(png, 20))).isNull();
+    }
+
+    /* ================= helpers ================= */
+
+    private static byte[] write(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static int[] pixels(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    /** IHDR 바로 뒤에 청크를 끼워 넣는다 */
+    private static byte[] withChunk(byte[] png, String type, byte[] data) {
+        int afterIhdr = 8 + 8 + 13 + 4;
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        ByteBuffer buf = ByteBuffer.allocate(png.length + 12 + data.length);
+        buf.put(png, 0, afterIhdr);
+        buf.putInt(data.length).put(typeBytes).put(data).putInt((int) crc.getValue());
+        buf.put(png, afterIhdr, png.length - afterIhdr);
+        return buf.array();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.logologolab.service.project;
+
+import com.example.logologolab.domain.*;
+import com.example.logologolab.dto.project.ProjectRequest;
+import com.example.logologolab.support.CountingDataSource;
+import com.example.logologolab.support.TimeSortedIds;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로젝트-자산 연결 증분 갱신 회귀 테스트 (H2).
+ * 조인 테이블 내용, 응답과 DB의 일치, 문장 수를 함께 확인한다.
+ * - 현재 연결 조회 3 + 타입별 소유권 검증(요청이 비어 있지 않을 때) + 변경분 delete/batch insert만
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-link;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectAssetLinker.class, ProjectAssetLinkerSyncTest.CountingConfig.class})
+class ProjectAssetLinkerSyncTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        CountingDataSource countingDataSource() {
+            return new CountingDataSource();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(CountingDataSource counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource ds) ? counter.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private ProjectAssetLinker linker;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CountingDataSource counter;
+
+    private User owner;
+    private Long projectId;
+    private Long logo1, logo2, logo3, foreignLogo;
+    private Long guide1, guide2;
+    private Long strategy1;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(User.createLocalUser("owner@example.com", "hash", "owner"));
+        User other = em.persist(User.createLocalUser("other@example.com", "hash", "other"));
+
+        Logo l1 = logo(owner, 1), l2 = logo(owner, 2), l3 = logo(owner, 3);
+        ColorGuide g1 = guide(owner, 1), g2 = guide(owner, 2);
+        BrandStrategy s1 = em.persist(BrandStrategy.builder()
+                .briefKo("strategy").style(Style.minimal).caseType(CaseType.WITHOUT_LOGO)
+                .markdown("# strategy").createdBy(owner).build());
+        foreignLogo = logo(other, 9).getId();
+
+        Project project = Project.builder().name("sync").user(owner).build();
+        project.getLogos().add(l1);
+        project.getLogos().add(l2);
+        project.getColorGuides().add(g1);
+        projectId = em.persistAndFlush(project).getId();
+        em.clear();
+
+        logo1 = l1.getId();
+        logo2 = l2.getId();
+        logo3 = l3.getId();
+        guide1 = g1.getId();
+        guide2 = g2.getId();
+        strategy1 = s1.getId();
+    }
+
+    @Test
+    void 추가분과_제거분만_반영하고_남의_자산과_없는_ID는_건너뛴다() {
+        counter.reset();
+
+        ProjectAssetLinks links = linker.sync(projectId,
+                request(List.of(logo2, logo3, foreignLogo, MISSING_ID), List.of(guide1), List.of(strategy1)),
+                owner.getId());
+
+        assertThat(links.logoIds().get(projectId)).containsExactlyElementsOf(sorted(logo2, logo3));
+        assertThat(links.colorGuideIds().get(projectId)).containsExactly(guide1);
+        assertThat(links.brandStrategyIds().get(projectId)).containsExactly(strategy1);
+        assertMatchesDatabase(links);
+
+        // 현재 연결 3 + 소유권 검증 3 + 로고 delete 1 / insert 1 + 전략 insert 1 (컬러 가이드는 변경 없음)
+        assertThat(counter.statements()).isEqualTo(9);
+    }
+
+    @Test
+    void 같은_요청을_다시_보내면_검증_쿼리만_나간다() {
+        ProjectRequest req = request(List.of(logo1, logo2), List.of(guide1), List.of());
+
+        counter.reset();
+        ProjectAssetLinks links = linker.sync(projectId, req, owner.getId());
+
+        assertThat(links.logoIds().get(projectId)).containsExactlyElementsOf(sorted(logo1, logo2));
+        assertThat(links.colorGuideIds().get(projectId)).containsExactly(guide1);
+        assertThat(links.brandStrategyIds().get(projectId)).isEmpty();
+        assertMatchesDatabase(links);
+
+        // 현재 연결 3 + 소유권 검증 2 (브랜드 전략 요청은 비어 있어 쿼리 없음), 쓰기 없음
+        assertThat(counter.statements()).isEqualTo(5);
+    }
+
+    @Test
+    void 빈_요청이면_모든_연결을_끊는다() {
+        counter.reset();
+
+        ProjectAssetLinks links = linker.sync(projectId, request(null, List.of(), null), owner.getId());
+
+        assertThat(links.logoIds().get(projectId)).isEmpty();
+        assertThat(links.colorGuideIds().get(projectId)).isEmpty();
+        assertThat(links.brandStrategyIds().get(projectId)).isEmpty();
+        assertMatchesDatabase(links);
+
+        // 현재 연결 3 + 로고 delete 1 + 컬러 가이드 delete 1 (검증 쿼리 없음)
+        assertThat(counter.statements()).isEqualTo(5);
+    }
+
+    @Test
+    void 관리자는_소유자와_무관하게_존재하는_자산만_연결한다() {
+        ProjectAssetLinks links = linker.sync(projectId,
+                request(List.of(foreignLogo, MISSING_ID), List.of(guide1, guide2), List.of()), null);
+
+        assertThat(links.logoIds().get(projectId)).containsExactly(foreignLogo);
+        assertThat(links.colorGuideIds().get(projectId)).containsExactlyElementsOf(sorted(guide1, guide2));
+        assertMatchesDatabase(links);
+    }
+
+    private void assertMatchesDatabase(ProjectAssetLinks links) {
+        assertThat(linked("project_logo", "logo_id")).isEqualTo(links.logoIds().get(projectId));
+        assertThat(linked("project_color_guide", "color_guide_id")).isEqualTo(links.colorGuideIds().get(projectId));
+        assertThat(linked("project_brand_strategy", "brand_strategy_id")).isEqualTo(links.brandStrategyIds().get(projectId));
+    }
+
+    private List<Long> linked(String table, String column) {
+        return jdbcTemplate.queryForList(
+                "SELECT " + column + " FROM " + table + " WHERE project_id = ? ORDER BY " + column, Long.class, projectId);
+    }
+
+    private Logo logo(User user, int n) {
+        return em.persist(Logo.builder()
+                .prompt("logo " + n).imageUrl("https://example.com/" + n + ".png").createdBy(user).build());
+    }
+
+    private ColorGuide guide(User user, int n) {
+        return em.persist(ColorGuide.builder()
+                .briefKo("guide " + n).style(Style.minimal).caseType(CaseType.WITHOUT_LOGO).createdBy(user).build());
+    }
+
+    private static ProjectRequest request(List<Long> logoIds, List<Long> colorGuideIds, List<Long> brandStrategyIds) {
+        ProjectRequest req = new ProjectRequest();
+        ReflectionTestUtils.setField(req, "name", "sync");
+        ReflectionTestUtils.setField(req, "logoIds", logoIds);
+        ReflectionTestUtils.setField(req, "colorGuideIds", colorGuideIds);
+        ReflectionTestUtils.setField(req, "brandStrategyIds", brandStrategyIds);
+        return req;
+    }
+
+    private static List<Long> sorted(Long... ids) {
+        return Stream.of(ids).sorted().toList();
+    }
+}
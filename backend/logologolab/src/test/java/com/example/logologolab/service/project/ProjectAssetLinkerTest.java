@@ -0,0 +1,55 @@
+package com.example.logologolab.service.project;
+
+import com.example.logologolab.service.project.ProjectAssetLinker.LinkDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectAssetLinkerTest {
+
+    @Test
+    void 추가분과_제거분만_계산한다() {
+        LinkDiff diff = LinkDiff.of(List.of(3L, 1L, 2L), Set.of(2L, 5L, 4L));
+
+        assertThat(diff.toAdd()).containsExactly(4L, 5L);
+        assertThat(diff.toRemove()).containsExactly(1L, 3L);
+        assertThat(diff.result()).containsExactly(2L, 4L, 5L);
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    void 같은_묶음이면_변경_없음() {
+        LinkDiff diff = LinkDiff.of(List.of(2L, 1L), Set.of(1L, 2L));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.result()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 목표가_비면_모두_제거() {
+        LinkDiff diff = LinkDiff.of(List.of(7L, 3L), Set.of());
+
+        assertThat(diff.toAdd()).isEmpty();
+        assertThat(diff.toRemove()).containsExactly(3L, 7L);
+        assertThat(diff.result()).isEmpty();
+    }
+
+    @Test
+    void 처음_연결하면_모두_추가() {
+        LinkDiff diff = LinkDiff.of(List.of(), Set.of(9L, 8L));
+
+        assertThat(diff.toAdd()).containsExactly(8L, 9L);
+        assertThat(diff.toRemove()).isEmpty();
+    }
+
+    @Test
+    void 현재_연결에_중복_row가_있어도_한_번만_제거() {
+        LinkDiff diff = LinkDiff.of(List.of(1L, 1L, 2L), Set.of(2L));
+
+        assertThat(diff.toRemove()).containsExactly(1L);
+        assertThat(diff.toAdd()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.logologolab.service.project;
+
+import com.example.logologolab.domain.*;
+import com.example.logologolab.dto.project.ProjectResponse;
+import com.example.logologolab.security.LoginUserProvider;
+import com.example.logologolab.support.CountingDataSource;
+import com.example.logologolab.support.TimeSortedIds;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 프로젝트 상세 조회 쿼리 수/행 수 회귀 테스트.
+ * 자산 컬렉션 3개를 fetch join 하면 20×20×20 = 8,000행이 되지만,
+ * 지금 구조는 프로젝트 1건 + 조인 테이블별 1회 = 4문장, 1 + 60행이어야 한다.
+ */
+@DataJpaTest(properties = {
+        // user 테이블명이 H2 예약어라 NON_KEYWORDS 지정
+        "spring.datasource.url=jdbc:h2:mem:project-detail;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "id.generator.node-id=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectService.class, ProjectDetailQueryCountTest.CountingConfig.class})
+class ProjectDetailQueryCountTest {
+
+    private static final int ASSETS_PER_TYPE = 20;
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        CountingDataSource countingDataSource() {
+            return new CountingDataSource();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(CountingDataSource counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource ds) ? counter.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    @MockitoBean
+    private LoginUserProvider loginUserProvider;
+    @MockitoBean
+    private ProjectAssetLinker projectAssetLinker;
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private CountingDataSource counter;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 상세_조회는_자산_수에_선형인_행과_고정된_문장_수만_쓴다() {
+        User owner = em.persist(User.createLocalUser("owner@example.com", "hash", "owner"));
+        Project project = Project.builder().name("20x20x20").user(owner).build();
+        for (int i = 0; i < ASSETS_PER_TYPE; i++) {
+            project.getLogos().add(em.persist(Logo.builder()
+                    .prompt("logo " + i).imageUrl("https://example.com/" + i + ".png").createdBy(owner).build()));
+            project.getColorGuides().add(em.persist(ColorGuide.builder()
+                    .briefKo("guide " + i).style(Style.minimal).caseType(CaseType.WITHOUT_LOGO).createdBy(owner).build()));
+            project.getBrandStrategies().add(em.persist(BrandStrategy.builder()
+                    .briefKo("strategy " + i).style(Style.minimal).caseType(CaseType.WITHOUT_LOGO)
+                    .markdown("### strategy " + i).createdBy(owner).build()));
+        }
+        Long projectId = em.persistAndFlush(project).getId();
+        em.clear();
+
+        given(loginUserProvider.getLoginUser()).willReturn(owner);
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        counter.reset();
+
+        ProjectResponse response = projectService.getProject(projectId);
+
+        assertThat(response.logoIds()).hasSize(ASSETS_PER_TYPE);
+        assertThat(response.colorGuideIds()).hasSize(ASSETS_PER_TYPE);
+        assertThat(response.brandStrategyIds()).hasSize(ASSETS_PER_TYPE);
+
+        assertThat(counter.statements()).isEqualTo(4);
+        assertThat(counter.rows()).isEqualTo(1 + 3L * ASSETS_PER_TYPE);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(stats.getEntityLoadCount()).isEqualTo(1);      // Project만 (자산 엔티티 로딩 없음)
+        assertThat(stats.getCollectionLoadCount()).isZero();      // 컬렉션 초기화 없음
+    }
+}
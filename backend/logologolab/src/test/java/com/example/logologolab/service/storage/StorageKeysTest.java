@@ -0,0 +1,38 @@
+package com.example.logologolab.service.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageKeysTest {
+
+    @Test
+    void 시그니처로_이미지_타입을_판별한다() {
+        assertThat(StorageKeys.sniffMime(bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D))).isEqualTo("image/png");
+        assertThat(StorageKeys.sniffMime(bytes(0xFF, 0xD8, 0xFF, 0xE0))).isEqualTo("image/jpeg");
+        assertThat(StorageKeys.sniffMime(bytes('R', 'I', 'F', 'F', 1, 2, 3, 4, 'W', 'E', 'B', 'P'))).isEqualTo("image/webp");
+    }
+
+    @Test
+    void 허용하지_않는_내용은_null() {
+        assertThat(StorageKeys.sniffMime("<svg xmlns=\"http://www.w3.org/2000/svg\">".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(StorageKeys.sniffMime(bytes('R', 'I', 'F', 'F', 1, 2, 3, 4, 'W', 'A', 'V', 'E'))).isNull();
+        assertThat(StorageKeys.sniffMime(bytes(0x89, 'P', 'N'))).isNull();
+        assertThat(StorageKeys.sniffMime(new byte[0])).isNull();
+    }
+
+    @Test
+    void SVG는_허용_목록에_없다() {
+        assertThat(StorageKeys.isAllowedImage("image/svg+xml")).isFalse();
+        assertThat(StorageKeys.mimeOfKey("logos/2025/01/01/a.svg")).isEqualTo("application/octet-stream");
+        assertThat(StorageKeys.isAllowedImage("IMAGE/PNG")).isTrue();
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] b = new byte[values.length];
+        for (int i = 0; i < values.length; i++) b[i] = (byte) values[i];
+        return b;
+    }
+}
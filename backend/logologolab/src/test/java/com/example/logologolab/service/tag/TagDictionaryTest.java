@@ -0,0 +1,160 @@
+package com.example.logologolab.service.tag;
+
+import com.example.logologolab.domain.Tag;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import com.example.logologolab.repository.tag.TagEntry;
+import com.example.logologolab.repository.tag.TagRepository;
+import com.example.logologolab.support.TimeSortedIds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 태그 사전 upsert 동작.
+ * tag 테이블은 unique(name) + ON DUPLICATE KEY UPDATE 의미(먼저 들어간 row 유지)를 흉내 낸 맵으로 대신한다.
+ */
+class TagDictionaryTest {
+
+    private static final int THREADS = 8;
+
+    /** name → id. putIfAbsent = 먼저 들어간 row가 이기고 나머지는 무시 */
+    private final Map<String, Long> table = new ConcurrentHashMap<>();
+
+    private TagRepository tagRepository;
+    private NamedParameterJdbcTemplate jdbc;
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final EntityManager em = mock(EntityManager.class);
+
+    /** batchUpdate 진입 시 대기시킬 장벽 (동시 태깅 재현용, null이면 대기 없음) */
+    private volatile CyclicBarrier upsertBarrier;
+
+    @BeforeAll
+    static void configureIds() {
+        TimeSortedIds.configure(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        tagRepository = mock(TagRepository.class);
+        jdbc = mock(NamedParameterJdbcTemplate.class);
+
+        given(jdbc.batchUpdate(anyString(), any(SqlParameterSource[].class))).willAnswer(inv -> {
+            CyclicBarrier barrier = upsertBarrier;
+            if (barrier != null) barrier.await(5, TimeUnit.SECONDS);
+            SqlParameterSource[] batch = inv.getArgument(1);
+            int[] counts = new int[batch.length];
+            for (int i = 0; i < batch.length; i++) {
+                String name = (String) batch[i].getValue("name");
+                counts[i] = table.putIfAbsent(name, (Long) batch[i].getValue("id")) == null ? 1 : 0;
+            }
+            return counts;
+        });
+        given(tagRepository.findEntriesForShare(anyCollection())).willAnswer(inv -> {
+            Collection<String> names = inv.getArgument(0);
+            List<TagEntry> rows = new ArrayList<>();
+            for (String name : names) {
+                Long id = table.get(name);
+                if (id != null) rows.add(new Entry(id, name));
+            }
+            return rows;
+        });
+        given(em.getReference(eq(Tag.class), any())).willAnswer(inv -> {
+            Tag tag = new Tag("ref");
+            ReflectionTestUtils.setField(tag, "id", inv.getArgument(1));
+            return tag;
+        });
+    }
+
+    @Test
+    void 같은_이름을_동시에_태깅해도_row는_하나이고_모두_같은_ID를_쓴다() throws Exception {
+        TagDictionary dictionary = newDictionary();
+        upsertBarrier = new CyclicBarrier(THREADS); // 모두 사전을 놓치고 upsert에 들어온 뒤 동시에 INSERT
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Set<Tag>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> dictionary.resolve(List.of("동시태그"))));
+            }
+
+            Set<Long> resolvedIds = new HashSet<>();
+            for (Future<Set<Tag>> f : futures) {
+                Set<Tag> tags = f.get(10, TimeUnit.SECONDS);
+                assertThat(tags).hasSize(1);
+                resolvedIds.add(tags.iterator().next().getId());
+            }
+
+            assertThat(table).hasSize(1);
+            assertThat(resolvedIds).containsExactly(table.get("동시태그"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스가_먼저_만든_이름은_기존_row로_수렴한다() {
+        TagDictionary first = newDictionary();
+        TagDictionary second = newDictionary(); // pub/sub을 아직 받지 못한 다른 인스턴스
+
+        Long created = first.resolve(List.of("브랜딩")).iterator().next().getId();
+        Long resolved = second.resolve(List.of("브랜딩")).iterator().next().getId();
+
+        assertThat(resolved).isEqualTo(created);
+        assertThat(table).containsOnlyKeys("브랜딩");
+    }
+
+    @Test
+    void 이름은_trim하고_빈_이름은_건너뛴다() {
+        TagDictionary dictionary = newDictionary();
+
+        Set<Tag> tags = dictionary.resolve(Arrays.asList("  미니멀 ", "미니멀", " ", null, ""));
+
+        assertThat(tags).hasSize(1);
+        assertThat(table).containsOnlyKeys("미니멀");
+        verify(jdbc).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    void 길이를_넘는_이름은_잘라_저장하지_않고_거절한다() {
+        TagDictionary dictionary = newDictionary();
+        String max = "가".repeat(Tag.NAME_MAX_LENGTH);
+
+        assertThat(dictionary.resolve(List.of(max))).hasSize(1);
+        assertThatThrownBy(() -> dictionary.resolve(List.of(max + "가")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TAG_NAME);
+        assertThat(table).containsOnlyKeys(max);
+    }
+
+    private TagDictionary newDictionary() {
+        TagDictionary dictionary = new TagDictionary(tagRepository, jdbc, redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dictionary, "em", em);
+        return dictionary;
+    }
+
+    private record Entry(Long id, String name) implements TagEntry {
+        @Override
+        public Long getId() { return id; }
+        @Override
+        public String getName() { return name; }
+    }
+}
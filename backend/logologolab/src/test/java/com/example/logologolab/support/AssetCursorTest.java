@@ -0,0 +1,104 @@
+package com.example.logologolab.support;
+
+import com.example.logologolab.domain.AssetType;
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AssetCursorTest {
+
+    private static final OffsetDateTime T = OffsetDateTime.of(2025, 8, 11, 10, 0, 0, 500, ZoneOffset.UTC);
+
+    @Test
+    void 인코딩한_커서는_그대로_복원된다() {
+        AssetCursor cursor = new AssetCursor(T, AssetType.COLOR_GUIDE, 7L);
+
+        AssetCursor decoded = AssetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 비어_있으면_첫_페이지() {
+        assertThat(AssetCursor.decode(null)).isNull();
+        assertThat(AssetCursor.decode("")).isNull();
+    }
+
+    @Test
+    void 형식이_잘못되면_INVALID_CURSOR() {
+        assertInvalid("%%%");
+        assertInvalid(base64("1.0.LOGO"));
+        assertInvalid(base64("1.0.UNKNOWN.3"));
+        assertInvalid(base64("1.0.LOGO.x"));
+    }
+
+    @Test
+    void 종류별_id_경계() {
+        AssetCursor cursor = new AssetCursor(T, AssetType.COLOR_GUIDE, 7L);
+
+        // 정렬은 type DESC → BRAND_STRATEGY가 앞, LOGO가 뒤
+        assertThat(cursor.boundIdFor(AssetType.LOGO)).isEqualTo(Long.MAX_VALUE);
+        assertThat(cursor.boundIdFor(AssetType.COLOR_GUIDE)).isEqualTo(7L);
+        assertThat(cursor.boundIdFor(AssetType.BRAND_STRATEGY)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void 경계_조건으로_이어_붙이면_정렬된_전체_목록과_같다() {
+        // createdAt이 같은 행이 종류마다 섞여 있는 목록
+        List<Row> rows = new ArrayList<>();
+        for (AssetType type : AssetType.values()) {
+            for (long id = 1; id <= 3; id++) {
+                rows.add(new Row(T, type, id));
+                rows.add(new Row(T.minusSeconds(id), type, id + 10));
+            }
+        }
+        Comparator<Row> order = Comparator.comparing(Row::createdAt)
+                .thenComparing(Row::type)
+                .thenComparingLong(Row::id)
+                .reversed();
+        List<Row> expected = rows.stream().sorted(order).toList();
+
+        List<Row> paged = new ArrayList<>();
+        AssetCursor cursor = null;
+        while (true) {
+            AssetCursor c = cursor;
+            // 종류별 쿼리: (createdAt < c) OR (createdAt = c AND id < boundId) 를 합쳐 4개씩
+            List<Row> page = rows.stream()
+                    .filter(r -> c == null || r.createdAt().isBefore(c.createdAt())
+                            || (r.createdAt().isEqual(c.createdAt()) && r.id() < c.boundIdFor(r.type())))
+                    .sorted(order)
+                    .limit(4)
+                    .toList();
+            if (page.isEmpty()) break;
+            paged.addAll(page);
+            Row last = page.get(page.size() - 1);
+            cursor = AssetCursor.decode(new AssetCursor(last.createdAt(), last.type(), last.id()).encode());
+        }
+
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    private record Row(OffsetDateTime createdAt, AssetType type, long id) {}
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> AssetCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
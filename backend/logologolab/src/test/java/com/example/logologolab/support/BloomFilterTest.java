@@ -0,0 +1,86 @@
+package com.example.logologolab.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 넣은_값은_항상_포함으로_판정한다() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) filter.add(sha256("in-" + i));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(sha256("in-" + i))).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(1_000);
+    }
+
+    @Test
+    void 오탐률은_목표치_근처다() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.add(sha256("in-" + i));
+
+        int falsePositives = 0;
+        int trials = 20_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(sha256("out-" + i))) falsePositives++;
+        }
+        // 목표 1%에 여유를 둔 상한
+        assertThat((double) falsePositives / trials).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void 크기와_해시_수는_공식을_따른다() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.001);
+
+        // m = -n·ln(p)/ln(2)² ≈ 1,437,759, k = m/n·ln(2) ≈ 10
+        assertThat(filter.bitCount()).isBetween(1_437_000L, 1_438_500L);
+        assertThat(filter.hashFunctions()).isEqualTo(10);
+        assertThat(BloomFilter.create(0, 0.9).bitCount()).isGreaterThanOrEqualTo(64);
+    }
+
+    @Test
+    void 동시_추가에도_유실이_없다() throws Exception {
+        BloomFilter filter = BloomFilter.create(40_000, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) filter.add(sha256(thread + "-" + i));
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(filter.insertions()).isEqualTo(40_000);
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain(sha256(t + "-" + i))).isTrue();
+            }
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.logologolab.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 JDBC 카운터. 준비/생성된 Statement 수와 ResultSet.next()로 읽은 행 수를 센다.
+ * 외부 라이브러리 없이 JDK 동적 프록시로 DataSource → Connection → Statement → ResultSet 을 감싼다.
+ */
+public final class CountingDataSource {
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+
+    public DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return (result instanceof Connection c) ? connection(c) : result;
+        });
+    }
+
+    public void reset() {
+        statements.set(0);
+        rows.set(0);
+    }
+
+    public long statements() { return statements.get(); }
+    public long rows() { return rows.get(); }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement s && !method.getName().equals("unwrap")) {
+                statements.incrementAndGet();
+                return statement(s);
+            }
+            return result;
+        });
+    }
+
+    private Statement statement(Statement target) {
+        Class<?> type = target instanceof java.sql.CallableStatement ? java.sql.CallableStatement.class
+                : target instanceof java.sql.PreparedStatement ? java.sql.PreparedStatement.class
+                : Statement.class;
+        return (Statement) proxy(type, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return (result instanceof ResultSet rs) ? resultSet(rs) : result;
+        });
+    }
+
+    private ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) rows.incrementAndGet();
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.logologolab.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcerptsTest {
+
+    @Test
+    void 공백을_한_칸으로_합친다() {
+        assertThat(Excerpts.of("  프리미엄\n\n캔들   브랜드\t", 200)).isEqualTo("프리미엄 캔들 브랜드");
+    }
+
+    @Test
+    void 최대_길이를_넘으면_말줄임표를_포함해_max_글자로_자른다() {
+        String result = Excerpts.of("가나다라마바사", 5);
+
+        assertThat(result).isEqualTo("가나다라…");
+        assertThat(result.codePointCount(0, result.length())).isEqualTo(5);
+    }
+
+    @Test
+    void 길이_이하면_그대로() {
+        assertThat(Excerpts.of("가나다", 3)).isEqualTo("가나다");
+        assertThat(Excerpts.of(null, 10)).isNull();
+    }
+
+    @Test
+    void 서로게이트_쌍을_쪼개지_않는다() {
+        String result = Excerpts.of("😀😀😀😀", 3);
+
+        assertThat(result).isEqualTo("😀😀…");
+    }
+
+    @Test
+    void 잘린_끝의_공백은_제거한다() {
+        assertThat(Excerpts.of("ab cd", 4)).isEqualTo("ab…");
+    }
+
+    @Test
+    void 마크다운_기호를_걷어낸다() {
+        String markdown = """
+                ### 브랜드 컨셉
+                - **키워드**: 조용한 럭셔리
+                > [공식 사이트](https://example.com) 참고
+                ---
+                | 항목 | 값 |
+                ![로고](https://example.com/logo.png)
+                """;
+
+        assertThat(Excerpts.ofMarkdown(markdown, 300))
+                .isEqualTo("브랜드 컨셉 키워드: 조용한 럭셔리 공식 사이트 참고 항목 값 로고");
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.logologolab.support;
+
+import com.example.logologolab.exception.custom.BusinessException;
+import com.example.logologolab.exception.errorcode.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedCursorTest {
+
+    @Test
+    void 인코딩한_커서는_같은_시각과_id로_복원된다() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 8, 11, 13, 45, 30, 123_456_789, ZoneOffset.ofHours(9));
+        FeedCursor cursor = FeedCursor.of(createdAt, 42L);
+
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(createdAt.toInstant());
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void 커서는_URL에_그대로_쓸_수_있다() {
+        String encoded = FeedCursor.of(OffsetDateTime.now(), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 비어_있으면_첫_페이지() {
+        assertThat(FeedCursor.decode(null)).isNull();
+        assertThat(FeedCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void 형식이_잘못되면_INVALID_CURSOR() {
+        assertInvalid("***");
+        assertInvalid(base64("1.2"));
+        assertInvalid(base64("a.b.c"));
+        assertInvalid(base64("1.2.3.4"));
+        assertInvalid(base64(Long.MAX_VALUE + ".0.1"));
+    }
+
+    @Test
+    void 페이지_크기_보정() {
+        assertThat(FeedCursor.clampSize(0)).isEqualTo(FeedCursor.DEFAULT_SIZE);
+        assertThat(FeedCursor.clampSize(-3)).isEqualTo(FeedCursor.DEFAULT_SIZE);
+        assertThat(FeedCursor.clampSize(20)).isEqualTo(20);
+        assertThat(FeedCursor.clampSize(1_000)).isEqualTo(FeedCursor.MAX_SIZE);
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> FeedCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
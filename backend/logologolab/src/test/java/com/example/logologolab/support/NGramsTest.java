@@ -0,0 +1,50 @@
+package com.example.logologolab.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramsTest {
+
+    @Test
+    void 문서는_2gram과_토큰별_첫_글자_1gram() {
+        assertThat(NGrams.of("카페로고")).containsExactly("카", "카페", "페로", "로고");
+        assertThat(NGrams.of("Hello, World!"))
+                .containsExactly("h", "he", "el", "ll", "lo", "w", "wo", "or", "rl", "ld");
+    }
+
+    @Test
+    void 검색어는_2gram만() {
+        assertThat(NGrams.ofQuery("카페 로고")).containsExactly("카페", "로고");
+    }
+
+    @Test
+    void 한_글자_토큰만_1gram() {
+        assertThat(NGrams.ofQuery("카")).containsExactly("카");
+        assertThat(NGrams.ofQuery("로고 a")).containsExactly("로고", "a");
+    }
+
+    @Test
+    void 단어_중간의_검색어도_매칭된다() {
+        assertThat(NGrams.of("카페로고")).containsAll(NGrams.ofQuery("로고"));
+        assertThat(NGrams.of("모던 카페로고 디자인")).containsAll(NGrams.ofQuery("페로"));
+    }
+
+    @Test
+    void 한_글자_검색어는_그_글자로_시작하는_단어만() {
+        assertThat(NGrams.of("카페로고")).containsAll(NGrams.ofQuery("카"));
+        assertThat(NGrams.of("카페로고")).doesNotContainAnyElementsOf(NGrams.ofQuery("고"));
+    }
+
+    @Test
+    void NFKC_정규화와_소문자화() {
+        assertThat(NGrams.ofQuery("ＡＢ")).containsExactly("ab");
+        assertThat(NGrams.ofQuery("Logo")).isEqualTo(NGrams.ofQuery("logo"));
+    }
+
+    @Test
+    void 글자가_없으면_빈_집합() {
+        assertThat(NGrams.of(null)).isEmpty();
+        assertThat(NGrams.ofQuery("  !! ")).isEmpty();
+    }
+}
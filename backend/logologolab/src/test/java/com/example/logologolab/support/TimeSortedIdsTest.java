@@ -0,0 +1,105 @@
+package com.example.logologolab.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeSortedIdsTest {
+
+    private static final int NODE = 5;
+
+    @BeforeEach
+    void setUp() {
+        TimeSortedIds.configure(NODE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeSortedIds.configure(0);
+    }
+
+    @Test
+    void 연속_생성한_ID는_엄격히_증가한다() {
+        // ms당 128개를 넘겨 시퀀스 넘침(다음 ms 차용)까지 거치게 한다
+        long prev = TimeSortedIds.next();
+        for (int i = 0; i < 100_000; i++) {
+            long id = TimeSortedIds.next();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+    }
+
+    @Test
+    void 노드_비트에_설정한_노드가_들어간다() {
+        long id = TimeSortedIds.next();
+
+        long node = (id >>> TimeSortedIds.SEQUENCE_BITS) & TimeSortedIds.MAX_NODE_ID;
+        assertThat(node).isEqualTo(NODE);
+    }
+
+    @Test
+    void JS_Number로_정확히_표현되는_53bit_이내() {
+        assertThat(TimeSortedIds.next()).isPositive().isLessThan(1L << 53);
+    }
+
+    @Test
+    void ID에서_생성_시각을_복원한다() {
+        long id = (1_000L << (TimeSortedIds.NODE_BITS + TimeSortedIds.SEQUENCE_BITS)) | ((long) NODE << TimeSortedIds.SEQUENCE_BITS) | 17;
+        assertThat(TimeSortedIds.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(TimeSortedIds.EPOCH_MILLIS + 1_000));
+
+        // 다른 테스트가 시퀀스를 넘겨 다음 ms를 빌려 썼을 수 있으므로 하한만 확인
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        assertThat(TimeSortedIds.timestampOf(TimeSortedIds.next())).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void 여러_스레드에서_생성해도_중복이_없다() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) ids[i] = TimeSortedIds.next();
+                    return ids;
+                });
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> f : pool.invokeAll(tasks)) {
+                for (long id : f.get()) all.add(id);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 노드_ID_범위를_벗어나면_거부() {
+        assertThatThrownBy(() -> TimeSortedIds.configure(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeSortedIds.configure(TimeSortedIds.MAX_NODE_ID + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 노드_ID_없이_생성하면_실패() {
+        ReflectionTestUtils.setField(TimeSortedIds.class, "nodeId", -1);
+
+        assertThatThrownBy(TimeSortedIds::next).isInstanceOf(IllegalStateException.class);
+    }
+}